@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JEditorPane;
+import javax.swing.JLabel;
+import javax.swing.JProgressBar;
+import javax.swing.JViewport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of updating the splash screen components themselves, as done on the EDT.
+ * The {@link JProgressBar} benchmarks are kept as a reference point for the previous bar implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ComponentBenchmark
+{
+	private static final String CONTENT = "<html><div><ul>" +
+		"<li>Add divine potion timers to the timers plugin</li>" +
+		"<li>Add Zalcano respawn timer to the boss plugin</li>" +
+		"<li>Add Prifddinas farming patches to the time tracking plugin</li>" +
+		"<li>Updates to the world map</li></ul>" +
+		"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore " +
+		"magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo." +
+		"</div></html>";
+
+	private MessagePanel messagePanel;
+	private JProgressBar progressBar;
+	private JLabel htmlLabel;
+	private MessageContentRenderer renderer;
+	private JEditorPane messageArea;
+	private JEditorPane otherMessageArea;
+	private JViewport messageViewport;
+	private JViewport cachedMessageViewport;
+	private BufferedImage canvas;
+	private int scrollPosition;
+	private int value;
+	private boolean toggle;
+
+	@Setup
+	public void setup()
+	{
+		messagePanel = new MessagePanel();
+		messagePanel.setSize(messagePanel.getPreferredSize());
+		messagePanel.doLayout();
+
+		progressBar = new JProgressBar(0, MessagePanel.BAR_MAXIMUM);
+		progressBar.setSize(400, 30);
+		htmlLabel = new JLabel();
+
+		renderer = new MessageContentRenderer(JEditorPane::new, 400);
+		messageArea = renderer.build(CONTENT);
+		otherMessageArea = renderer.build(CONTENT + " ");
+		// Like in the splash screen the content is scrolled within a viewport shorter than it
+		canvas = new BufferedImage(400, 100, BufferedImage.TYPE_INT_RGB);
+		messageViewport = createViewport(renderer.build(CONTENT));
+		cachedMessageViewport = createViewport(new MessageContentRenderer(CachedEditorPane::new, 400).build(CONTENT));
+	}
+
+	@Benchmark
+	public void barValue()
+	{
+		messagePanel.getBar().setValue(value = (value + 7) % MessagePanel.BAR_MAXIMUM);
+	}
+
+	@Benchmark
+	public void barText()
+	{
+		messagePanel.getBar().setText((toggle = !toggle) ? "Downloading client.jar" : "Downloading injected-client.jar");
+	}
+
+	@Benchmark
+	public void jProgressBarValue()
+	{
+		progressBar.setValue(value = (value + 7) % MessagePanel.BAR_MAXIMUM);
+	}
+
+	@Benchmark
+	public void jProgressBarText()
+	{
+		progressBar.setString((toggle = !toggle) ? "Downloading client.jar" : "Downloading injected-client.jar");
+		progressBar.setStringPainted(true);
+	}
+
+	/**
+	 * Rendering content which was not shown recently, creating a pane, parsing the html into it and laying it out
+	 */
+	@Benchmark
+	public Object renderMessage()
+	{
+		return renderer.build((toggle = !toggle) ? CONTENT : CONTENT + " ");
+	}
+
+	/**
+	 * Showing content which was shown recently, swapping its rendered message area in
+	 */
+	@Benchmark
+	public Object showMessageArea()
+	{
+		messagePanel.showMessagePane((toggle = !toggle) ? messageArea : otherMessageArea);
+		messagePanel.validate();
+		return messagePanel.getMessagePane().getPreferredSize();
+	}
+
+	/**
+	 * A scroll step of the message area, moving the view and repainting the viewport. Off screen the viewport cannot
+	 * blit so the whole visible part is repainted, the worst case of a scroll step.
+	 */
+	@Benchmark
+	public void scrollMessageArea()
+	{
+		scroll(messageViewport);
+	}
+
+	@Benchmark
+	public void scrollCachedMessageArea()
+	{
+		scroll(cachedMessageViewport);
+	}
+
+	private void scroll(final JViewport viewport)
+	{
+		scrollPosition = (scrollPosition + 3) % (viewport.getView().getHeight() - viewport.getHeight());
+		viewport.setViewPosition(new Point(0, scrollPosition));
+
+		final Graphics2D g = canvas.createGraphics();
+		viewport.paint(g);
+		g.dispose();
+	}
+
+	private JViewport createViewport(final JEditorPane pane)
+	{
+		final JViewport viewport = new JViewport();
+		viewport.setOpaque(true);
+		viewport.setView(pane);
+		viewport.setSize(canvas.getWidth(), canvas.getHeight());
+		viewport.doLayout();
+		return viewport;
+	}
+
+	@Benchmark
+	public Object htmlLabel()
+	{
+		htmlLabel.setText((toggle = !toggle) ? CONTENT : CONTENT + " ");
+		return htmlLabel.getPreferredSize();
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost download threads pay for reporting progress, both from a single thread and from many download
+ * workers at once. Run with {@code -prof gc} to see the allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ProgressBenchmark
+{
+	private static final int FILES = 16;
+
+	private LaunchState launchState;
+	private ProgressUpdater updater;
+	private DownloadTracker.Download[] downloads;
+	private ProgressStage[] stages;
+	private final AtomicInteger threadIds = new AtomicInteger();
+	private long bytes;
+
+	@State(Scope.Thread)
+	public static class Worker
+	{
+		private DownloadTracker.Download download;
+		private ProgressStage stage;
+		private long done;
+
+		@Setup
+		public void setup(final ProgressBenchmark benchmark)
+		{
+			final int id = benchmark.threadIds.getAndIncrement() % FILES;
+			download = benchmark.downloads[id];
+			stage = benchmark.stages[id];
+		}
+	}
+
+	@Setup
+	public void setup()
+	{
+		launchState = new LaunchState(new File("target/splash-stages.dat"));
+		updater = new ProgressUpdater(new MessagePanel(), launchState, new AnimationClock());
+		updater.getDownloads().setLegacyExpectedBytes(Long.MAX_VALUE / 2);
+
+		downloads = new DownloadTracker.Download[FILES];
+		for (int i = 0; i < FILES; i++)
+		{
+			downloads[i] = updater.getDownloads().register("file-" + i + ".jar", Long.MAX_VALUE / 64);
+		}
+
+		// Three levels deep, like downloads grouped by kind within the launch
+		final ProgressStage download = launchState.getStages().addStage("Download", 3);
+		launchState.getStages().addStage("Verify", 1);
+		stages = new ProgressStage[FILES];
+		for (int i = 0; i < FILES; i++)
+		{
+			stages[i] = download.addStage("file-" + i + ".jar", i + 1);
+		}
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		updater.stop();
+		launchState.finish(null);
+	}
+
+	/**
+	 * The legacy single file {@code RuneLiteSplashScreen#progress} path
+	 */
+	@Benchmark
+	public void legacyProgress()
+	{
+		updater.getDownloads().legacyProgress("client.jar", bytes += 8192);
+	}
+
+	@Benchmark
+	public void report(final Worker worker)
+	{
+		worker.download.report(8192);
+	}
+
+	@Benchmark
+	@Threads(16)
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void reportConcurrent(final Worker worker)
+	{
+		worker.download.report(8192);
+	}
+
+	/**
+	 * A progress report to a stage of the stage tree, propagated up to the root
+	 */
+	@Benchmark
+	@Threads(16)
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void stageProgressConcurrent(final Worker worker)
+	{
+		worker.stage.setProgress(worker.done = (worker.done + 1) % 1_000_000, 1_000_000);
+	}
+
+	@Benchmark
+	public void setMessage()
+	{
+		updater.setMessage("Checking for updates", 1000);
+	}
+
+	@Benchmark
+	public void setBarText()
+	{
+		updater.setBarText("Verifying");
+	}
+
+	/**
+	 * The work done on the EDT for every frame in which progress was reported
+	 */
+	@Benchmark
+	public void tick()
+	{
+		updater.getDownloads().legacyProgress("client.jar", bytes += 8192);
+		updater.tick(System.nanoTime());
+	}
+}
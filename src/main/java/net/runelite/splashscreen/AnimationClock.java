@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.Frame;
+import java.awt.Window;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * The single timer driving every animation of the splash screen. Each {@link Animation} tells the clock when it
+ * next needs a frame and the clock only wakes up at the earliest of those times, at most {@link #FRAME_RATE} times
+ * per second. Once no animation needs another frame the timer is stopped completely until {@link #wake()} is
+ * called, and it is paused while the frame is iconified or hidden.
+ */
+class AnimationClock
+{
+	static final int FRAME_RATE = 60;
+	static final long FRAME_INTERVAL = TimeUnit.SECONDS.toNanos(1) / FRAME_RATE;
+	/* Returned by an animation which needs no more frames until it is woken up */
+	static final long IDLE = Long.MAX_VALUE;
+
+	interface Animation
+	{
+		/**
+		 * Advances the animation, on the EDT
+		 * @param now the {@link System#nanoTime()} of the frame
+		 * @return the time at which the next frame is needed, {@code now} for the next possible frame or {@link #IDLE}
+		 */
+		long tick(long now);
+	}
+
+	// Only accessed on the EDT
+	private final List<Animation> animations = new ArrayList<>();
+	private final Timer timer;
+	private long scheduledFrame = IDLE;
+	private long lastFrame = System.nanoTime() - FRAME_INTERVAL;
+	private boolean paused;
+
+	private final AtomicBoolean wakeQueued = new AtomicBoolean();
+
+	AnimationClock()
+	{
+		timer = new Timer((int) TimeUnit.NANOSECONDS.toMillis(FRAME_INTERVAL), e -> frame());
+		timer.setRepeats(false);
+		timer.setCoalesce(true);
+	}
+
+	/**
+	 * Adds an animation and runs it on the next frame
+	 */
+	void add(final Animation animation)
+	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(() -> add(animation));
+			return;
+		}
+
+		animations.add(animation);
+		schedule(System.nanoTime());
+	}
+
+	void remove(final Animation animation)
+	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(() -> remove(animation));
+			return;
+		}
+
+		animations.remove(animation);
+	}
+
+	/**
+	 * Requests a frame as soon as possible, from any thread. Wakes made while a wake is already queued are free.
+	 */
+	void wake()
+	{
+		if (wakeQueued.get() || !wakeQueued.compareAndSet(false, true))
+		{
+			return;
+		}
+
+		SwingUtilities.invokeLater(() ->
+		{
+			wakeQueued.set(false);
+			schedule(System.nanoTime());
+		});
+	}
+
+	/**
+	 * Pauses the clock while the window is iconified or hidden, on the EDT
+	 */
+	void pauseWhenHidden(final Window window)
+	{
+		window.addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowIconified(final WindowEvent e)
+			{
+				setPaused(true);
+			}
+
+			@Override
+			public void windowDeiconified(final WindowEvent e)
+			{
+				setPaused(!window.isShowing());
+			}
+		});
+		window.addComponentListener(new ComponentAdapter()
+		{
+			@Override
+			public void componentShown(final ComponentEvent e)
+			{
+				setPaused(isIconified(window));
+			}
+
+			@Override
+			public void componentHidden(final ComponentEvent e)
+			{
+				setPaused(true);
+			}
+		});
+	}
+
+	/**
+	 * Stops the clock for good
+	 */
+	void stop()
+	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(this::stop);
+			return;
+		}
+
+		animations.clear();
+		timer.stop();
+		scheduledFrame = IDLE;
+	}
+
+	private void setPaused(final boolean paused)
+	{
+		if (this.paused == paused)
+		{
+			return;
+		}
+
+		this.paused = paused;
+		if (paused)
+		{
+			timer.stop();
+			scheduledFrame = IDLE;
+		}
+		else
+		{
+			// Catch up on everything which happened while hidden
+			schedule(System.nanoTime());
+		}
+	}
+
+	/**
+	 * Arms the timer for the specified time, unless a frame is already due by then. Frames are never scheduled less
+	 * than a frame interval after the previous one, however often producers wake the clock.
+	 */
+	private void schedule(final long requested)
+	{
+		final long time = Math.max(requested, lastFrame + FRAME_INTERVAL);
+		if (paused || time >= scheduledFrame)
+		{
+			return;
+		}
+
+		scheduledFrame = time;
+		final long delay = Math.max(0, time - System.nanoTime());
+		// Round up so the timer never fires ahead of the frame interval
+		timer.setInitialDelay((int) ((delay + TimeUnit.MILLISECONDS.toNanos(1) - 1) / TimeUnit.MILLISECONDS.toNanos(1)));
+		timer.restart();
+	}
+
+	private void frame()
+	{
+		scheduledFrame = IDLE;
+		if (paused)
+		{
+			return;
+		}
+
+		final long now = System.nanoTime();
+		lastFrame = now;
+		long next = IDLE;
+		for (int i = 0; i < animations.size(); i++)
+		{
+			next = Math.min(next, animations.get(i).tick(now));
+		}
+
+		if (next != IDLE)
+		{
+			schedule(next);
+		}
+	}
+
+	private static boolean isIconified(final Window window)
+	{
+		return window instanceof Frame && (((Frame) window).getExtendedState() & Frame.ICONIFIED) != 0;
+	}
+}
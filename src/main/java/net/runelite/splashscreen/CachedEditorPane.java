@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.beans.PropertyChangeEvent;
+import javax.swing.JEditorPane;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+
+/**
+ * A {@link JEditorPane} which renders its content once into an off-screen image, at the scale of the screen it is
+ * painted on, and paints every following frame by copying from that image. Scrolling its viewport and repaints of
+ * the surrounding components then no longer walk the html view tree.
+ * The image is only dropped when the document, font, colors or selection change, and re-rendered when the size of
+ * the pane or the screen scale changes. Moving the pane, as its viewport does while scrolling, keeps the image.
+ * When the pane is opaque the viewport can blit while scrolling and only the exposed strip is copied from the image.
+ * Panes too large to cache are painted directly.
+ */
+class CachedEditorPane extends JEditorPane
+{
+	/* Larger content is painted directly rather than keeping a huge image around */
+	private static final long MAX_CACHED_PIXELS = 4L * 1024 * 1024;
+
+	private final DocumentListener documentListener = new DocumentListener()
+	{
+		@Override
+		public void insertUpdate(final DocumentEvent e)
+		{
+			invalidateCache();
+		}
+
+		@Override
+		public void removeUpdate(final DocumentEvent e)
+		{
+			invalidateCache();
+		}
+
+		@Override
+		public void changedUpdate(final DocumentEvent e)
+		{
+			invalidateCache();
+		}
+	};
+
+	private BufferedImage cache;
+	private int cacheWidth;
+	private int cacheHeight;
+	private double cacheScaleX;
+	private double cacheScaleY;
+
+	CachedEditorPane()
+	{
+		getDocument().addDocumentListener(documentListener);
+		addPropertyChangeListener(this::propertyChanged);
+		addCaretListener(e -> invalidateCache());
+	}
+
+	private void propertyChanged(final PropertyChangeEvent e)
+	{
+		switch (e.getPropertyName())
+		{
+			case "document":
+				if (e.getOldValue() != null)
+				{
+					((Document) e.getOldValue()).removeDocumentListener(documentListener);
+				}
+				if (e.getNewValue() != null)
+				{
+					((Document) e.getNewValue()).addDocumentListener(documentListener);
+				}
+				invalidateCache();
+				break;
+			case "font":
+			case "foreground":
+			case "background":
+			case "opaque":
+				invalidateCache();
+				break;
+		}
+	}
+
+	private void invalidateCache()
+	{
+		cache = null;
+	}
+
+	@Override
+	protected void paintComponent(final Graphics graphics)
+	{
+		final Graphics2D g = (Graphics2D) graphics;
+		final int width = getWidth();
+		final int height = getHeight();
+		final AffineTransform transform = g.getTransform();
+		final double scaleX = transform.getScaleX();
+		final double scaleY = transform.getScaleY();
+		final int imageWidth = (int) Math.ceil(width * scaleX);
+		final int imageHeight = (int) Math.ceil(height * scaleY);
+		if (imageWidth <= 0 || imageHeight <= 0 || (long) imageWidth * imageHeight > MAX_CACHED_PIXELS
+			|| transform.getShearX() != 0 || transform.getShearY() != 0)
+		{
+			cache = null;
+			super.paintComponent(g);
+			return;
+		}
+
+		BufferedImage image = cache;
+		if (image == null || cacheWidth != width || cacheHeight != height || cacheScaleX != scaleX || cacheScaleY != scaleY)
+		{
+			image = render(g, imageWidth, imageHeight, scaleX, scaleY);
+			cache = image;
+			cacheWidth = width;
+			cacheHeight = height;
+			cacheScaleX = scaleX;
+			cacheScaleY = scaleY;
+		}
+
+		// Only the clipped part of the image is copied
+		g.drawImage(image, 0, 0, width, height, null);
+	}
+
+	private BufferedImage render(final Graphics2D target, final int imageWidth, final int imageHeight,
+		final double scaleX, final double scaleY)
+	{
+		// An opaque pane paints its own background, which keeps subpixel text antialiasing and is faster to copy
+		final boolean opaque = isOpaque();
+		final GraphicsConfiguration gc = getGraphicsConfiguration();
+		final BufferedImage image = gc != null
+			? gc.createCompatibleImage(imageWidth, imageHeight, opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT)
+			: new BufferedImage(imageWidth, imageHeight, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+
+		final Graphics2D g = image.createGraphics();
+		try
+		{
+			g.setRenderingHints(target.getRenderingHints());
+			g.scale(scaleX, scaleY);
+			g.setClip(0, 0, getWidth(), getHeight());
+			g.setFont(getFont());
+			g.setColor(getForeground());
+			super.paintComponent(g);
+		}
+		finally
+		{
+			g.dispose();
+		}
+		return image;
+	}
+}
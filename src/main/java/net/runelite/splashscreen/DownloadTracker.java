@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * Thread-safe accounting of the bytes downloaded across any number of files.
+ * Each file is registered with its expected size and receives its own {@link Download} slot which download workers
+ * report deltas to. The totals are kept in striped {@link LongAdder}s so concurrent workers never contend on a single
+ * counter.
+ */
+public class DownloadTracker
+{
+	private static final long COMPLETE = -1;
+
+	private final LongAdder expectedBytes = new LongAdder();
+	private final LongAdder transferredBytes = new LongAdder();
+	private final ConcurrentMap<String, Download> downloads = new ConcurrentHashMap<>();
+	private final LongAdder progressCalls = new LongAdder();
+	private volatile Runnable listener = () ->
+	{
+	};
+
+	// Compatibility state for the single file setFetchBytes/progress/processed api
+	private volatile long legacyExpectedBytes;
+	private final AtomicLong legacyFileBytes = new AtomicLong();
+	private volatile String legacyFile;
+	// Sizes of the files finished through the legacy api, only written once per file
+	private final ConcurrentMap<String, Long> legacyFiles = new ConcurrentHashMap<>();
+
+	/**
+	 * The name of the file which most recently reported progress. Only written when it changes, so workers reporting
+	 * for the same file keep reading a shared cache line instead of invalidating it on every report.
+	 */
+	@Getter
+	private volatile String activeFile;
+
+	/**
+	 * Sets the callback run after every change to the totals, from whichever thread made the change
+	 */
+	void setListener(final Runnable listener)
+	{
+		this.listener = listener;
+	}
+
+	/**
+	 * Registers a new file to be downloaded. Registering a name which is already registered returns the existing slot.
+	 * @param name the name of the file, displayed while it is being downloaded
+	 * @param expectedBytes the expected size of the file in bytes
+	 * @return the slot to report progress for this file to
+	 */
+	public Download register(final String name, final long expectedBytes)
+	{
+		return downloads.computeIfAbsent(name, n ->
+		{
+			this.expectedBytes.add(expectedBytes);
+			return new Download(n, expectedBytes);
+		});
+	}
+
+	/**
+	 * @return all files registered through {@link #register(String, long)}
+	 */
+	public Collection<Download> getDownloads()
+	{
+		return Collections.unmodifiableCollection(downloads.values());
+	}
+
+	/**
+	 * @return the total amount of bytes expected to be downloaded
+	 */
+	public long getExpectedBytes()
+	{
+		return expectedBytes.sum() + legacyExpectedBytes;
+	}
+
+	/**
+	 * @return the total amount of bytes downloaded so far
+	 */
+	public long getTransferredBytes()
+	{
+		return transferredBytes.sum();
+	}
+
+	/**
+	 * @return the amount of progress reports made so far, through either api
+	 */
+	public long getProgressCalls()
+	{
+		return progressCalls.sum();
+	}
+
+	/**
+	 * @return the amount of bytes downloaded so far of every file, through either api, in no particular order
+	 */
+	public Map<String, Long> getFileBytes()
+	{
+		final Map<String, Long> files = new LinkedHashMap<>(legacyFiles);
+		final String current = legacyFile;
+		if (current != null)
+		{
+			files.put(current, legacyFileBytes.get());
+		}
+
+		for (final Download download : downloads.values())
+		{
+			files.put(download.getName(), download.getTransferredBytes());
+		}
+		return files;
+	}
+
+	void setLegacyExpectedBytes(final long bytes)
+	{
+		legacyExpectedBytes = bytes;
+	}
+
+	/**
+	 * Sets the progress of the file currently being downloaded through the legacy api
+	 */
+	void legacyProgress(final String filename, final long bytes)
+	{
+		transferredBytes.add(bytes - legacyFileBytes.getAndSet(bytes));
+		progressCalls.increment();
+		if (!filename.equals(legacyFile))
+		{
+			legacyFile = filename;
+		}
+		publishActiveFile(filename);
+		listener.run();
+	}
+
+	/**
+	 * Marks the file currently being downloaded through the legacy api as finished with the specified size
+	 */
+	void legacyProcessed(final long bytes)
+	{
+		transferredBytes.add(bytes - legacyFileBytes.getAndSet(0));
+		progressCalls.increment();
+
+		final String file = legacyFile;
+		if (file != null)
+		{
+			legacyFiles.put(file, bytes);
+			legacyFile = null;
+		}
+		listener.run();
+	}
+
+	private void publishActiveFile(final String name)
+	{
+		if (!name.equals(activeFile))
+		{
+			activeFile = name;
+		}
+	}
+
+	/**
+	 * A single file being downloaded. Progress may be reported from any thread.
+	 */
+	public final class Download
+	{
+		@Getter
+		private final String name;
+		@Getter
+		private final long expectedBytes;
+		// The bytes reported so far, or COMPLETE once finished. Keeping both in one word lets a report racing
+		// complete() either land before it, and be accounted for by it, or be dropped.
+		private final AtomicLong transferred = new AtomicLong();
+
+		private Download(final String name, final long expectedBytes)
+		{
+			this.name = name;
+			this.expectedBytes = expectedBytes;
+		}
+
+		/**
+		 * Reports that more bytes of this file have been downloaded. Reports made after {@link #complete()} are ignored.
+		 * @param bytes the amount of bytes downloaded since the last report
+		 */
+		public void report(final long bytes)
+		{
+			long current;
+			do
+			{
+				current = transferred.get();
+				if (current == COMPLETE)
+				{
+					return;
+				}
+			}
+			while (!transferred.compareAndSet(current, current + bytes));
+
+			transferredBytes.add(bytes);
+			progressCalls.increment();
+			publishActiveFile(name);
+			listener.run();
+		}
+
+		/**
+		 * Marks this file as fully downloaded, accounting for any bytes which were never reported.
+		 */
+		public void complete()
+		{
+			final long reported = transferred.getAndSet(COMPLETE);
+			if (reported == COMPLETE)
+			{
+				return;
+			}
+
+			transferredBytes.add(expectedBytes - reported);
+			publishActiveFile(name);
+			listener.run();
+		}
+
+		public long getTransferredBytes()
+		{
+			final long current = transferred.get();
+			return current == COMPLETE ? expectedBytes : current;
+		}
+
+		public boolean isComplete()
+		{
+			return transferred.get() == COMPLETE;
+		}
+	}
+}
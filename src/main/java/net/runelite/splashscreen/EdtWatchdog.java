@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.EventQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects stalls of the EDT caused by slow or blocking work running on it, by posting a heartbeat event a few times per
+ * threshold and checking that it ran. When a heartbeat has been pending for longer than the threshold the stack trace
+ * of the EDT is logged as a warning, together with the splash screen's current stage, once per stall. While the EDT is
+ * responsive this costs one tiny event per poll and nothing else.
+ * <p>
+ * Modal dialogs and other secondary loops opened from the EDT are not stalls: they keep dispatching events, heartbeats
+ * included, for as long as they are shown.
+ */
+@Slf4j
+class EdtWatchdog implements Runnable
+{
+	private static final long MIN_POLL_INTERVAL_MILLIS = 50;
+	private static final String EDT_NAME_PREFIX = "AWT-EventQueue";
+
+	private final StartupTimeline timeline;
+	private final long threshold;
+	private final long pollInterval;
+	private final Thread thread;
+	private final Runnable heartbeat = this::heartbeat;
+
+	// Written by the heartbeat on the EDT
+	private volatile boolean pending;
+	private volatile long lastBeat;
+	private volatile Thread edt;
+
+	EdtWatchdog(final StartupTimeline timeline, final long thresholdMillis)
+	{
+		this.timeline = timeline;
+		this.threshold = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+		this.pollInterval = Math.max(MIN_POLL_INTERVAL_MILLIS, thresholdMillis / 4);
+		this.thread = new Thread(this, "splash-edt-watchdog");
+		this.thread.setDaemon(true);
+	}
+
+	void start()
+	{
+		thread.start();
+	}
+
+	void stop()
+	{
+		thread.interrupt();
+	}
+
+	private void heartbeat()
+	{
+		edt = Thread.currentThread();
+		lastBeat = System.nanoTime();
+		pending = false;
+	}
+
+	@Override
+	public void run()
+	{
+		long posted = 0;
+		boolean reported = false;
+		try
+		{
+			while (!Thread.currentThread().isInterrupted())
+			{
+				final long now = System.nanoTime();
+				if (!pending)
+				{
+					if (reported)
+					{
+						reported = false;
+						log.warn("The EDT recovered after being stalled for {}ms",
+							TimeUnit.NANOSECONDS.toMillis(lastBeat - posted));
+					}
+
+					pending = true;
+					posted = now;
+					EventQueue.invokeLater(heartbeat);
+				}
+				else if (!reported && now - posted >= threshold)
+				{
+					reported = true;
+					report(TimeUnit.NANOSECONDS.toMillis(now - posted));
+				}
+
+				Thread.sleep(pollInterval);
+			}
+		}
+		catch (InterruptedException e)
+		{
+			// Stopped
+		}
+	}
+
+	private void report(final long stalledMillis)
+	{
+		final Thread eventThread = findEdt();
+		final String stage = timeline.getCurrentPhase();
+		if (eventThread == null)
+		{
+			log.warn("The EDT has been stalled for {}ms during stage \"{}\", but it could not be found",
+				stalledMillis, stage);
+			return;
+		}
+
+		final Throwable trace = new Throwable("Stack trace of \"" + eventThread.getName() + "\" "
+			+ eventThread.getState());
+		trace.setStackTrace(eventThread.getStackTrace());
+		log.warn("The EDT has been stalled for {}ms during stage \"{}\"", stalledMillis, stage, trace);
+	}
+
+	/**
+	 * @return the thread which ran the last heartbeat, or any event dispatch thread if none has run yet
+	 */
+	private Thread findEdt()
+	{
+		final Thread last = edt;
+		if (last != null && last.isAlive())
+		{
+			return last;
+		}
+
+		for (final Thread t : Thread.getAllStackTraces().keySet())
+		{
+			if (t.getName().startsWith(EDT_NAME_PREFIX))
+			{
+				return t;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link Splash} for machines without a display which prints the launch progress to stderr.
+ * Stage changes are printed right away while download progress is printed at most once per
+ * {@link #PRINT_INTERVAL_MILLIS} from a background thread, so download threads never wait on the console.
+ * The launch is tracked by the same {@link LaunchState} as the splash screen. Nothing in here touches AWT imaging,
+ * fonts or swing.
+ */
+@Slf4j
+public class HeadlessSplash implements Splash
+{
+	private static final long PRINT_INTERVAL_MILLIS = 1000;
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private final File logFile;
+	private final PrintStream out;
+	private final LaunchState launchState = new LaunchState();
+	private final DownloadTracker downloads = launchState.getDownloads();
+	private final ProgressStage stages = launchState.getStages();
+	private final SplashMetrics metrics = launchState.getMetrics();
+	private final AtomicBoolean stagesChanged = new AtomicBoolean();
+	private final AtomicBoolean downloadsChanged = new AtomicBoolean();
+	private final ScheduledExecutorService printer;
+
+	private volatile int percent;
+	private volatile String message;
+
+	public HeadlessSplash(final File logFile, final String versionText)
+	{
+		this(logFile, versionText, System.err);
+	}
+
+	HeadlessSplash(final File logFile, final String versionText, final PrintStream out)
+	{
+		this.logFile = logFile;
+		this.out = out;
+
+		downloads.setListener(() -> downloadsChanged.set(true));
+
+		printer = Executors.newSingleThreadScheduledExecutor(r ->
+		{
+			final Thread thread = new Thread(r, "splash-console");
+			thread.setDaemon(true);
+			return thread;
+		});
+		stages.setListener(() -> stagesChanged.set(true));
+
+		printer.scheduleAtFixedRate(this::printDownloads, PRINT_INTERVAL_MILLIS, PRINT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		printer.scheduleAtFixedRate(this::printStages, PRINT_INTERVAL_MILLIS, PRINT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+		out.println("RuneLite " + versionText);
+	}
+
+	@Override
+	public void setMessage(final String msg, final int value)
+	{
+		if (msg == null || msg.equals(message))
+		{
+			return;
+		}
+
+		launchState.stageStarted(msg, value, LaunchState.toBarUnits(value));
+		message = msg;
+		percent = value;
+		out.printf("[%3d%%] %s%n", value, msg);
+		metrics.uiUpdateApplied();
+	}
+
+	@Override
+	public void setBarText(final String text)
+	{
+		launchState.getProgressDispatcher().setBarText(text);
+		if (text != null)
+		{
+			out.printf("[%3d%%] %s%n", percent, text);
+			metrics.uiUpdateApplied();
+		}
+	}
+
+	@Override
+	@Deprecated
+	public void setProgressStartingPercent(final float percent)
+	{
+		// Downloads are printed as their own total, there is no bar to distribute them over
+	}
+
+	@Override
+	@Deprecated
+	public void setProgressEndingPercent(final float percent)
+	{
+		// Downloads are printed as their own total, there is no bar to distribute them over
+	}
+
+	@Override
+	public ProgressDispatcher getProgressDispatcher()
+	{
+		return launchState.getProgressDispatcher();
+	}
+
+	@Override
+	public DownloadTracker getDownloads()
+	{
+		return downloads;
+	}
+
+	@Override
+	public ProgressStage getStages()
+	{
+		return stages;
+	}
+
+	@Override
+	public SplashMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	@Override
+	public void startEdtWatchdog(final long thresholdMillis)
+	{
+		// Nothing runs on the EDT without a frame
+	}
+
+	@Override
+	public void setFetchBytes(final long fetchBytes)
+	{
+		downloads.setLegacyExpectedBytes(fetchBytes);
+	}
+
+	@Override
+	public void progress(final String filename, final long bytes, final long total)
+	{
+		if (total == 0)
+		{
+			return;
+		}
+
+		downloads.legacyProgress(filename, bytes);
+	}
+
+	@Override
+	public void processed(final long processedBytes)
+	{
+		downloads.legacyProcessed(processedBytes);
+	}
+
+	@Override
+	public void errorMessage(final String message)
+	{
+		final String text = stripHtml(message);
+		log.error(text);
+		out.println("Error: " + text);
+		if (logFile != null)
+		{
+			out.println("See the log file for details: " + logFile.getAbsolutePath());
+		}
+	}
+
+	@Override
+	public void invalidVersion()
+	{
+		out.println("Your RuneLite launcher version is outdated, please visit https://runelite.net to download the updated version");
+	}
+
+	@Override
+	public void close()
+	{
+		printer.shutdownNow();
+		launchState.finish(logFile);
+		out.flush();
+	}
+
+	private void printStages()
+	{
+		if (!stagesChanged.getAndSet(false))
+		{
+			return;
+		}
+
+		percent = Math.max(percent, (int) (stages.getFraction() * 100));
+		final String msg = message;
+		out.printf("[%3d%%] %s%n", percent, msg == null ? "" : msg);
+		metrics.uiUpdateApplied();
+	}
+
+	private void printDownloads()
+	{
+		// The console printer is the tick of a headless launch, sampled even while nothing changed so a stall shows
+		metrics.sample(System.nanoTime());
+		final long transferred = downloads.getTransferredBytes();
+
+		if (!downloadsChanged.getAndSet(false))
+		{
+			return;
+		}
+
+		final long expected = downloads.getExpectedBytes();
+		final String file = downloads.getActiveFile();
+		final double rate = metrics.getCurrentBytesPerSecond();
+		final StringBuilder sb = new StringBuilder("Downloading ");
+		sb.append(file == null ? "" : file).append(": ");
+		sb.append(String.format("%.1f", transferred / BYTES_PER_MEGABYTE));
+		if (expected > 0)
+		{
+			sb.append(String.format("/%.1f MB (%d%%)", expected / BYTES_PER_MEGABYTE, Math.min(100, transferred * 100 / expected)));
+		}
+		else
+		{
+			sb.append(" MB");
+		}
+
+		if (rate > 0)
+		{
+			sb.append(String.format(", %.1f MB/s", rate / BYTES_PER_MEGABYTE));
+		}
+
+		out.println(sb);
+		metrics.uiUpdateApplied();
+	}
+
+	private static String stripHtml(final String message)
+	{
+		return message.replaceAll("<br\\s*/?>", " ").replaceAll("<[^>]*>", "").trim();
+	}
+}
@@ -27,34 +27,41 @@ package net.runelite.splashscreen;
 import java.awt.Color;
 import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
-import java.awt.Image;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
 import java.io.File;
-import javax.swing.ImageIcon;
+import java.util.concurrent.TimeUnit;
+import javax.swing.Icon;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.MatteBorder;
+import net.runelite.splashscreen.util.FontManager;
 import net.runelite.splashscreen.util.LinkBrowser;
+import net.runelite.splashscreen.util.ResourceLoader;
 import net.runelite.splashscreen.util.SwingUtil;
 
 public class InfoPanel extends JPanel
 {
-	private static final BufferedImage TRANSPARENT_LOGO = SwingUtil.loadImage("runelite_transparent.png");
 	static final Dimension PANEL_SIZE = new Dimension(200, RuneLiteSplashScreen.FRAME_SIZE.height);
 	private static final Dimension VERSION_SIZE = new Dimension(PANEL_SIZE.width, 30);
 	private static final File RUNELITE_DIR = new File(System.getProperty("user.home"), ".runelite");
 	private static final File LOGS_DIR = new File(RUNELITE_DIR, "logs");
 	private static final String TROUBLESHOOTING_URL = "https://github.com/runelite/runelite/wiki/Troubleshooting-problems-with-the-client";
 	private static final String DISCORD_INVITE_LINK = "https://discord.gg/mePCs8U";
+	private static final Color HOVER_COLOR = new Color(60, 60, 60);
+	private static final long HOVER_FADE_NANOS = TimeUnit.MILLISECONDS.toNanos(120);
 
-	InfoPanel(final String versionString)
+	private final AnimationClock clock;
+
+	InfoPanel(final String versionString, final AnimationClock clock)
 	{
+		this.clock = clock;
+
 		this.setLayout(new GridBagLayout());
 		this.setPreferredSize(PANEL_SIZE);
 		this.setBackground(new Color(38, 38, 38));
@@ -67,11 +74,8 @@ public class InfoPanel extends JPanel
 		c.ipady = 5;
 
 		// Logo
-		final ImageIcon transparentLogo = new ImageIcon();
-		if (TRANSPARENT_LOGO != null)
-		{
-			transparentLogo.setImage(TRANSPARENT_LOGO.getScaledInstance(128, 128, Image.SCALE_SMOOTH));
-		}
+		final Icon transparentLogo = SwingUtil.loadIcon(ResourceLoader.TRANSPARENT_LOGO,
+			ResourceLoader.TRANSPARENT_LOGO_SIZE, ResourceLoader.TRANSPARENT_LOGO_SIZE);
 		final JLabel logo = new JLabel(transparentLogo);
 		logo.setBorder(new EmptyBorder(25, 0, 0, 0));
 
@@ -82,15 +86,15 @@ public class InfoPanel extends JPanel
 		c.anchor = GridBagConstraints.SOUTH;
 		c.weighty = 0;
 
-		final JLabel logsFolder = createPanelButton("Open logs folder", null, () -> LinkBrowser.openLocalFile(LOGS_DIR));
+		final JLabel logsFolder = createPanelButton("Open logs folder", null, () -> LogDirectoryBrowser.open(this, LOGS_DIR));
 		this.add(logsFolder, c);
 		c.gridy++;
 
-		final JLabel discord = createPanelButton("Get help on Discord", "Instant invite link to join the RuneLite discord", () -> LinkBrowser.browse(DISCORD_INVITE_LINK));
+		final JLabel discord = createPanelButton("Get help on Discord", "Instant invite link to join the RuneLite discord", () -> LinkBrowser.browseAsync(DISCORD_INVITE_LINK));
 		this.add(discord, c);
 		c.gridy++;
 
-		final JLabel troubleshooting = createPanelButton("Troubleshooting steps", "Opens a link to the troubleshooting wiki", () -> LinkBrowser.browse(TROUBLESHOOTING_URL));
+		final JLabel troubleshooting = createPanelButton("Troubleshooting steps", "Opens a link to the troubleshooting wiki", () -> LinkBrowser.browseAsync(TROUBLESHOOTING_URL));
 		this.add(troubleshooting, c);
 		c.gridy++;
 
@@ -100,7 +104,7 @@ public class InfoPanel extends JPanel
 
 		// version
 		final JLabel version = new JLabel(versionString);
-		version.setFont(SwingUtil.RUNESCAPE_FONT_SMALL);
+		FontManager.applyFont(version, FontManager.Face.RUNESCAPE_SMALL, Font.PLAIN, 16);
 		version.setHorizontalAlignment(JLabel.CENTER);
 		version.setForeground(new Color(136, 136, 136));
 		version.setBackground(this.getBackground().brighter());
@@ -111,19 +115,22 @@ public class InfoPanel extends JPanel
 		this.add(version, c);
 	}
 
-	private static JLabel createPanelButton(final String name, final String tooltip, final Runnable runnable)
+	private JLabel createPanelButton(final String name, final String tooltip, final Runnable runnable)
 	{
 		final JLabel btn = new JLabel(name, JLabel.CENTER);
 		btn.setToolTipText(tooltip);
 		btn.setOpaque(true);
 		btn.setBackground(null);
 		btn.setForeground(Color.WHITE);
-		btn.setFont(SwingUtil.RUNESCAPE_FONT);
+		FontManager.applyFont(btn, FontManager.Face.RUNESCAPE, Font.PLAIN, 16);
 		btn.setBorder(new CompoundBorder(
 			new MatteBorder(1, 0, 0, 0, Color.LIGHT_GRAY),
 			new EmptyBorder(3, 0, 3, 0))
 		);
 		btn.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+
+		final HoverFade fade = new HoverFade(btn);
+		clock.add(fade);
 		btn.addMouseListener(new MouseAdapter()
 		{
 			@Override
@@ -135,18 +142,63 @@ public class InfoPanel extends JPanel
 			@Override
 			public void mouseEntered(MouseEvent e)
 			{
-				btn.setBackground(new Color(60, 60, 60));
-				btn.repaint();
+				fade.hovered = true;
+				clock.wake();
 			}
 
 			@Override
 			public void mouseExited(MouseEvent e)
 			{
-				btn.setBackground(null);
-				btn.repaint();
+				fade.hovered = false;
+				clock.wake();
 			}
 		});
 
 		return btn;
 	}
+
+	/**
+	 * Fades the background of a button in and out of the hover color, on the EDT
+	 */
+	private class HoverFade implements AnimationClock.Animation
+	{
+		private final JLabel button;
+		private boolean hovered;
+		private double level;
+		private long lastFrame;
+
+		private HoverFade(final JLabel button)
+		{
+			this.button = button;
+		}
+
+		@Override
+		public long tick(final long now)
+		{
+			final double target = hovered ? 1 : 0;
+			if (level == target)
+			{
+				lastFrame = now;
+				return AnimationClock.IDLE;
+			}
+
+			// Coming out of idle the previous frame is long gone, fade from here as if it was a frame ago
+			final long elapsed = Math.min(now - lastFrame, 2 * AnimationClock.FRAME_INTERVAL);
+			final double step = (double) elapsed / HOVER_FADE_NANOS;
+			level = hovered ? Math.min(1, level + step) : Math.max(0, level - step);
+			lastFrame = now;
+
+			button.setBackground(level == 0 ? null : blend(getBackground(), HOVER_COLOR, level));
+			button.repaint();
+			return level == target ? AnimationClock.IDLE : now;
+		}
+	}
+
+	private static Color blend(final Color from, final Color to, final double amount)
+	{
+		return new Color(
+			(int) Math.round(from.getRed() + (to.getRed() - from.getRed()) * amount),
+			(int) Math.round(from.getGreen() + (to.getGreen() - from.getGreen()) * amount),
+			(int) Math.round(from.getBlue() + (to.getBlue() - from.getBlue()) * amount));
+	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.File;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * The state of a single launch which is shared between the splash screen, its handle and the progress pipeline.
+ * Everything in here is thread-safe and usable before the frame has been built.
+ */
+@Getter
+class LaunchState
+{
+	private final DownloadTracker downloads = new DownloadTracker();
+	private final StartupTimeline timeline = new StartupTimeline(downloads);
+	private final StageHistory stageHistory;
+	private final ProgressDispatcher progressDispatcher = new ProgressDispatcher(downloads);
+	private final SplashMetrics metrics = new SplashMetrics(downloads, timeline);
+	private final ProgressStage stages = ProgressStage.root();
+	@Getter(AccessLevel.NONE)
+	private EdtWatchdog edtWatchdog;
+	@Getter(AccessLevel.NONE)
+	private boolean finished;
+
+	LaunchState()
+	{
+		this(StageHistory.DEFAULT_FILE);
+	}
+
+	LaunchState(final File stageHistoryFile)
+	{
+		stageHistory = new StageHistory(stageHistoryFile);
+		metrics.register();
+	}
+
+	/**
+	 * @return the percentage converted to bar units
+	 */
+	static int toBarUnits(final float percent)
+	{
+		return Math.round(percent * MessagePanel.BAR_MAXIMUM / 100f);
+	}
+
+	/**
+	 * Records the start of a stage, at the time it was requested rather than when it was applied to the frame
+	 * @param name the stage message
+	 * @param percent the percentage of the launch done
+	 * @param barValue the bar value the stage starts at, in bar units
+	 */
+	void stageStarted(final String name, final int percent, final int barValue)
+	{
+		timeline.phase(name);
+		stageHistory.stageStarted(name, barValue);
+		progressDispatcher.setMessage(name, percent);
+	}
+
+	/**
+	 * Starts watching the EDT for stalls, see {@link EdtWatchdog}. Only the first call before the launch has finished
+	 * has any effect.
+	 */
+	synchronized void startEdtWatchdog(final long thresholdMillis)
+	{
+		if (finished || edtWatchdog != null)
+		{
+			return;
+		}
+
+		edtWatchdog = new EdtWatchdog(timeline, thresholdMillis);
+		edtWatchdog.start();
+	}
+
+	/**
+	 * Ends the launch, writing the timeline next to the log file, saving the stage history, closing the sinks,
+	 * unregistering the metrics and stopping the EDT watchdog. Only the first call has any effect.
+	 */
+	void finish(final File logFile)
+	{
+		synchronized (this)
+		{
+			if (finished)
+			{
+				return;
+			}
+
+			finished = true;
+			if (edtWatchdog != null)
+			{
+				edtWatchdog.stop();
+			}
+		}
+		progressDispatcher.close();
+		timeline.finish(logFile);
+		stageHistory.save();
+		metrics.unregister();
+	}
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import javax.swing.DefaultListModel;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.border.EmptyBorder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.splashscreen.util.CustomScrollBarUI;
+import net.runelite.splashscreen.util.FontManager;
+import net.runelite.splashscreen.util.IoExecutor;
+import net.runelite.splashscreen.util.LinkBrowser;
+import net.runelite.splashscreen.util.SwingUtil;
+
+/**
+ * A window listing the files of a log directory, newest first, and showing the selected one a page at a time.
+ * The directory is listed and pages are read on the {@link IoExecutor} threads. Files are added to the list as they
+ * are found, compressed logs are decompressed on the fly, see {@link LogPager}.
+ */
+@Slf4j
+class LogDirectoryBrowser extends JDialog
+{
+	private static final int LINES_PER_PAGE = 500;
+	/* How many listed files are added to the list at once */
+	private static final int LIST_BATCH = 16;
+	private static final Dimension SIZE = new Dimension(900, 550);
+	private static final Dimension LIST_SIZE = new Dimension(260, 0);
+
+	@Value
+	private static class LogFile
+	{
+		Path path;
+		long size;
+		long lastModified;
+	}
+
+	private final File directory;
+	private final DefaultListModel<LogFile> files = new DefaultListModel<>();
+	private final JList<LogFile> fileList = new JList<>(files);
+	private final JTextArea textArea = new JTextArea();
+	private final JLabel pageLabel = new JLabel(" ");
+	private final JButton previous = SwingUtil.createFlatButton("Previous", JOptionPane.NO_OPTION);
+	private final JButton next = SwingUtil.createFlatButton("Next", JOptionPane.NO_OPTION);
+	private final JButton follow = SwingUtil.createFlatButton("Follow", JOptionPane.NO_OPTION);
+
+	// Only accessed on the EDT
+	private LogFile selected;
+	private LogPager pager;
+	private LogPager.Page page;
+
+	LogDirectoryBrowser(final Component parent, final File directory)
+	{
+		super(JOptionPane.getFrameForComponent(parent), "RuneLite - " + directory.getName(), false);
+		this.directory = directory;
+
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		SwingUtil.applyLogo(this);
+
+		fileList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		fileList.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		fileList.setCellRenderer(new LogFileRenderer());
+		fileList.addListSelectionListener(e ->
+		{
+			if (!e.getValueIsAdjusting())
+			{
+				select(fileList.getSelectedValue());
+			}
+		});
+
+		final JScrollPane listScroll = createScrollPane(fileList);
+		listScroll.setPreferredSize(LIST_SIZE);
+
+		textArea.setEditable(false);
+		textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+		textArea.setForeground(Color.WHITE);
+		textArea.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		textArea.setCaretColor(Color.WHITE);
+		textArea.setBorder(new EmptyBorder(5, 5, 5, 5));
+
+		FontManager.applyFont(pageLabel, FontManager.Face.RUNESCAPE, Font.PLAIN, 16);
+		pageLabel.setForeground(Color.WHITE);
+
+		previous.addActionListener(e -> showPage(page.getIndex() - 1));
+		next.addActionListener(e -> showPage(page.getIndex() + 1));
+		follow.addActionListener(e -> LogViewer.open(this, selected.getPath().toFile(), false));
+		final JButton openFolder = SwingUtil.createFlatButton("Open folder", JOptionPane.NO_OPTION);
+		openFolder.addActionListener(e -> LinkBrowser.openLocalFileAsync(directory));
+		final JButton close = SwingUtil.createFlatButton("Close", JOptionPane.NO_OPTION);
+		close.addActionListener(e -> dispose());
+		updateButtons();
+
+		final JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+		buttons.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		buttons.add(pageLabel);
+		buttons.add(previous);
+		buttons.add(next);
+		buttons.add(follow);
+		buttons.add(openFolder);
+		buttons.add(close);
+
+		final JPanel content = new JPanel(new BorderLayout());
+		content.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		content.add(listScroll, BorderLayout.WEST);
+		content.add(createScrollPane(textArea), BorderLayout.CENTER);
+		content.add(buttons, BorderLayout.SOUTH);
+		setContentPane(content);
+		setSize(SIZE);
+		setLocationRelativeTo(parent);
+
+		IoExecutor.runAsync(this::listFiles);
+	}
+
+	/**
+	 * Opens a browser for the log directory
+	 */
+	static void open(final Component parent, final File directory)
+	{
+		if (!directory.isDirectory())
+		{
+			LinkBrowser.openLocalFileAsync(directory);
+			return;
+		}
+
+		new LogDirectoryBrowser(parent, directory).setVisible(true);
+	}
+
+	private static JScrollPane createScrollPane(final Component view)
+	{
+		final JScrollPane scrollPane = new JScrollPane(view);
+		scrollPane.setBorder(new EmptyBorder(0, 0, 0, 0));
+		scrollPane.getVerticalScrollBar().setUI(new CustomScrollBarUI());
+		scrollPane.getHorizontalScrollBar().setUI(new CustomScrollBarUI());
+		return scrollPane;
+	}
+
+	/**
+	 * Lists the directory on an I/O thread, publishing the files in small batches
+	 */
+	private void listFiles()
+	{
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath()))
+		{
+			final LogFile[] batch = new LogFile[LIST_BATCH];
+			int count = 0;
+			for (final Path path : stream)
+			{
+				final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				if (!attributes.isRegularFile())
+				{
+					continue;
+				}
+
+				batch[count++] = new LogFile(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+				if (count == LIST_BATCH)
+				{
+					publish(batch.clone(), count);
+					count = 0;
+				}
+			}
+
+			publish(batch, count);
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to list {}", directory, e);
+		}
+	}
+
+	private void publish(final LogFile[] batch, final int count)
+	{
+		SwingUtilities.invokeLater(() ->
+		{
+			for (int i = 0; i < count; i++)
+			{
+				// Kept sorted newest first as files arrive, the list is only dozens of files long
+				int index = 0;
+				while (index < files.size() && files.get(index).getLastModified() >= batch[i].getLastModified())
+				{
+					index++;
+				}
+				files.add(index, batch[i]);
+			}
+
+			if (fileList.getSelectedIndex() == -1 && !files.isEmpty())
+			{
+				fileList.setSelectedIndex(0);
+			}
+		});
+	}
+
+	private void select(final LogFile file)
+	{
+		if (file == null || file.equals(selected))
+		{
+			return;
+		}
+
+		selected = file;
+		closePager();
+		pager = new LogPager(file.getPath(), LINES_PER_PAGE);
+		page = null;
+		showPage(0);
+	}
+
+	@Override
+	public void dispose()
+	{
+		closePager();
+		super.dispose();
+	}
+
+	/**
+	 * Closes the current pager on the I/O threads, as it waits for any read still in progress
+	 */
+	private void closePager()
+	{
+		final LogPager pager = this.pager;
+		if (pager != null)
+		{
+			IoExecutor.runAsync(pager::close);
+		}
+	}
+
+	private void showPage(final int index)
+	{
+		final LogPager pager = this.pager;
+		previous.setEnabled(false);
+		next.setEnabled(false);
+		pageLabel.setText("Loading...");
+
+		IoExecutor.supplyAsync(() ->
+		{
+			try
+			{
+				return pager.read(index);
+			}
+			catch (IOException e)
+			{
+				log.warn("Unable to read {}", selected.getPath(), e);
+				return null;
+			}
+		}).thenAccept(read -> SwingUtilities.invokeLater(() ->
+		{
+			// Ignore pages of a file which is no longer selected
+			if (pager != this.pager)
+			{
+				return;
+			}
+
+			if (read == null)
+			{
+				textArea.setText("Unable to read " + selected.getPath().getFileName());
+			}
+			else
+			{
+				page = read;
+				textArea.setText(String.join("\n", read.getLines()));
+				textArea.setCaretPosition(0);
+			}
+			updateButtons();
+		}));
+	}
+
+	private void updateButtons()
+	{
+		previous.setEnabled(page != null && page.getIndex() > 0);
+		next.setEnabled(page != null && !page.isLast());
+		follow.setEnabled(selected != null && !LogPager.isCompressed(selected.getPath()));
+		pageLabel.setText(page == null ? " " : "Page " + (page.getIndex() + 1));
+	}
+
+	private static String formatSize(final long bytes)
+	{
+		if (bytes < 1024)
+		{
+			return bytes + " B";
+		}
+
+		final int unit = (63 - Long.numberOfLeadingZeros(bytes)) / 10;
+		return String.format("%.1f %sB", bytes / (double) (1L << (unit * 10)), "KMGTPE".charAt(unit - 1));
+	}
+
+	/**
+	 * Renders a file as its name above its size and modification time
+	 */
+	private static class LogFileRenderer extends JPanel implements ListCellRenderer<LogFile>
+	{
+		private final JLabel name = new JLabel();
+		private final JLabel details = new JLabel();
+		private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+
+		LogFileRenderer()
+		{
+			setLayout(new BorderLayout());
+			setBorder(new EmptyBorder(4, 6, 4, 6));
+			FontManager.applyFont(name, FontManager.Face.RUNESCAPE, Font.PLAIN, 16);
+			FontManager.applyFont(details, FontManager.Face.RUNESCAPE_SMALL, Font.PLAIN, 16);
+			name.setForeground(Color.WHITE);
+			details.setForeground(new Color(136, 136, 136));
+			add(name, BorderLayout.NORTH);
+			add(details, BorderLayout.SOUTH);
+		}
+
+		@Override
+		public Component getListCellRendererComponent(final JList<? extends LogFile> list, final LogFile value,
+			final int index, final boolean isSelected, final boolean cellHasFocus)
+		{
+			name.setText(value.getPath().getFileName().toString());
+			details.setText(formatSize(value.getSize()) + "  " + dateFormat.format(new Date(value.getLastModified())));
+			setBackground(isSelected ? SwingUtil.BUTTON_HOVER_COLOR : SwingUtil.DARKER_GRAY_COLOR);
+			return this;
+		}
+	}
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import lombok.Value;
+
+/**
+ * Reads a log file one page of lines at a time so only a few pages are ever held in memory.
+ * The uncompressed offset of every page reached so far is remembered: plain files seek straight to it. A deflate
+ * stream can not be entered at an offset, so {@code .gz} files are decompressed as a stream, without extracting them
+ * anywhere, which is kept open between reads so paging forward continues where the last page ended. Only going back
+ * past the most recently decoded pages, which are kept, decompresses from the start again.
+ * Reads block on the disk, so they belong on the I/O threads rather than the EDT.
+ * This class is thread-safe but not meant to be read concurrently.
+ */
+class LogPager
+{
+	/* Longer lines are cut off */
+	private static final int MAX_LINE_BYTES = 16 * 1024;
+	/* The decoded pages of compressed files kept around, so paging back and forth does not decompress again */
+	private static final int DECODED_PAGES = 4;
+
+	@Value
+	static class Page
+	{
+		int index;
+		List<String> lines;
+		boolean last;
+	}
+
+	private final Path file;
+	private final int linesPerPage;
+	private final boolean compressed;
+	// Guarded by this, the uncompressed offset each page starts at
+	private final List<Long> pageOffsets = new ArrayList<>();
+	// Guarded by this, the decompression stream of a compressed file and its uncompressed offset
+	private InputStream stream;
+	private long streamOffset;
+	private final Map<Integer, Page> decodedPages = new LinkedHashMap<Integer, Page>(8, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Integer, Page> eldest)
+		{
+			return size() > DECODED_PAGES;
+		}
+	};
+	private boolean closed;
+
+	LogPager(final Path file, final int linesPerPage)
+	{
+		this.file = file;
+		this.linesPerPage = linesPerPage;
+		this.compressed = isCompressed(file);
+		pageOffsets.add(0L);
+	}
+
+	static boolean isCompressed(final Path file)
+	{
+		return file.getFileName().toString().endsWith(".gz");
+	}
+
+	/**
+	 * Reads a page. Pages can only be reached one at a time, up to the one after the furthest page read so far.
+	 */
+	synchronized Page read(final int index) throws IOException
+	{
+		if (closed)
+		{
+			throw new IOException("The pager of " + file + " has been closed");
+		}
+
+		if (index < 0 || index >= pageOffsets.size())
+		{
+			throw new IndexOutOfBoundsException("Page " + index + " has not been reached yet");
+		}
+
+		final long offset = pageOffsets.get(index);
+		if (!compressed)
+		{
+			try (InputStream in = new BufferedInputStream(openPlain(offset)))
+			{
+				return readPage(in, index, offset);
+			}
+		}
+
+		final Page decoded = decodedPages.get(index);
+		if (decoded != null)
+		{
+			return decoded;
+		}
+
+		final Page page;
+		try
+		{
+			page = readPage(seekCompressed(offset), index, offset);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			closeStream();
+			throw e;
+		}
+
+		if (page.isLast())
+		{
+			closeStream();
+		}
+		else
+		{
+			streamOffset = pageOffsets.get(index + 1);
+		}
+		decodedPages.put(index, page);
+		return page;
+	}
+
+	/**
+	 * Closes the decompression stream kept open between reads. Reads fail once closed.
+	 */
+	synchronized void close()
+	{
+		closed = true;
+		decodedPages.clear();
+		closeStream();
+	}
+
+	/**
+	 * Reads a page from a stream positioned at its start, leaving the stream at the start of the next page
+	 */
+	private Page readPage(final InputStream in, final int index, final long offset) throws IOException
+	{
+		final List<String> lines = new ArrayList<>(linesPerPage);
+		final ByteArrayOutputStream line = new ByteArrayOutputStream();
+		long read = 0;
+		boolean eof = false;
+		while (lines.size() < linesPerPage)
+		{
+			final int b = in.read();
+			if (b == -1)
+			{
+				if (line.size() > 0)
+				{
+					lines.add(decode(line));
+				}
+				eof = true;
+				break;
+			}
+
+			read++;
+			if (b == '\n')
+			{
+				lines.add(decode(line));
+				line.reset();
+			}
+			else if (line.size() < MAX_LINE_BYTES)
+			{
+				line.write(b);
+			}
+		}
+
+		// A full page may still be the last one, which is only known by trying to read past it
+		boolean last = eof;
+		if (!last)
+		{
+			in.mark(1);
+			last = in.read() == -1;
+			in.reset();
+		}
+
+		if (!last && index == pageOffsets.size() - 1)
+		{
+			pageOffsets.add(offset + read);
+		}
+
+		return new Page(index, lines, last);
+	}
+
+	private InputStream openPlain(final long offset) throws IOException
+	{
+		final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try
+		{
+			channel.position(offset);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			channel.close();
+			throw e;
+		}
+		return Channels.newInputStream(channel);
+	}
+
+	/**
+	 * @return the decompression stream positioned at the offset, reusing the open stream if it is not past it yet
+	 */
+	private InputStream seekCompressed(final long offset) throws IOException
+	{
+		if (stream == null || offset < streamOffset)
+		{
+			closeStream();
+			final InputStream in = Files.newInputStream(file);
+			try
+			{
+				stream = new BufferedInputStream(new GZIPInputStream(in, 64 * 1024));
+			}
+			catch (IOException | RuntimeException e)
+			{
+				in.close();
+				throw e;
+			}
+			streamOffset = 0;
+		}
+
+		long remaining = offset - streamOffset;
+		while (remaining > 0)
+		{
+			final long skipped = stream.skip(remaining);
+			if (skipped <= 0)
+			{
+				throw new EOFException("Unexpected end of " + file);
+			}
+			remaining -= skipped;
+		}
+		streamOffset = offset;
+		return stream;
+	}
+
+	private void closeStream()
+	{
+		if (stream == null)
+		{
+			return;
+		}
+
+		try
+		{
+			stream.close();
+		}
+		catch (IOException e)
+		{
+			// Only read from, nothing is lost
+		}
+		stream = null;
+	}
+
+	private static String decode(final ByteArrayOutputStream line)
+	{
+		final byte[] bytes = line.toByteArray();
+		int length = bytes.length;
+		if (length > 0 && bytes[length - 1] == '\r')
+		{
+			length--;
+		}
+		return new String(bytes, 0, length, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Follows the end of a log file. The first read seeks straight to the last {@link #TAIL_BYTES} of the file and every
+ * later read continues from the file position where the previous one stopped, so the cost only depends on how much
+ * was appended and never on the size of the file. Only the last lines are kept, in a bounded ring buffer.
+ * This class is thread-safe but not meant to be polled concurrently.
+ */
+class LogTail
+{
+	/* The most that is ever read at once, anything before it is skipped */
+	private static final int TAIL_BYTES = 512 * 1024;
+	/* Longer lines are cut off */
+	private static final int MAX_LINE_BYTES = 16 * 1024;
+
+	/**
+	 * The lines read by a single {@link #poll()}
+	 */
+	@Value
+	static class Update
+	{
+		/* True if the file was truncated or replaced and previously read lines should be discarded */
+		boolean reset;
+		List<String> lines;
+	}
+
+	private final Path file;
+	private final int maxLines;
+
+	// Guarded by this
+	private final ArrayDeque<String> lines;
+	private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+	private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+	private long position = -1;
+	private boolean skipLine;
+
+	LogTail(final Path file, final int maxLines)
+	{
+		this.file = file;
+		this.maxLines = maxLines;
+		this.lines = new ArrayDeque<>(maxLines);
+	}
+
+	/**
+	 * Reads everything appended since the previous call
+	 * @return the complete lines read, at most the last {@code maxLines} of them
+	 */
+	synchronized Update poll() throws IOException
+	{
+		// Opened for every poll rather than kept open so the log can still be rotated on Windows
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			final long size = channel.size();
+			boolean reset = false;
+			if (position < 0 || size < position)
+			{
+				reset = position >= 0;
+				position = 0;
+				lines.clear();
+				partialLine.reset();
+				skipLine = false;
+			}
+
+			if (size - position > TAIL_BYTES)
+			{
+				// Too far behind, skip ahead and drop the partial line the read starts in
+				position = size - TAIL_BYTES;
+				partialLine.reset();
+				skipLine = true;
+			}
+
+			final List<String> read = new ArrayList<>();
+			channel.position(position);
+			while (position < size)
+			{
+				buffer.clear();
+				final int n = channel.read(buffer);
+				if (n <= 0)
+				{
+					break;
+				}
+
+				position += n;
+				split(buffer.array(), n, read);
+			}
+
+			final List<String> added = read.size() > maxLines ? read.subList(read.size() - maxLines, read.size()) : read;
+			for (final String line : added)
+			{
+				if (lines.size() == maxLines)
+				{
+					lines.removeFirst();
+				}
+				lines.addLast(line);
+			}
+
+			return new Update(reset, added.isEmpty() ? Collections.emptyList() : new ArrayList<>(added));
+		}
+	}
+
+	/**
+	 * @return the last lines read so far
+	 */
+	synchronized List<String> getLines()
+	{
+		return new ArrayList<>(lines);
+	}
+
+	private void split(final byte[] bytes, final int length, final List<String> out)
+	{
+		int start = 0;
+		for (int i = 0; i < length; i++)
+		{
+			if (bytes[i] != '\n')
+			{
+				continue;
+			}
+
+			appendPartial(bytes, start, i - start);
+			start = i + 1;
+
+			if (skipLine)
+			{
+				skipLine = false;
+			}
+			else
+			{
+				out.add(decode());
+			}
+			partialLine.reset();
+		}
+
+		appendPartial(bytes, start, length - start);
+	}
+
+	private void appendPartial(final byte[] bytes, final int offset, final int length)
+	{
+		partialLine.write(bytes, offset, Math.min(length, MAX_LINE_BYTES - partialLine.size()));
+	}
+
+	private String decode()
+	{
+		int length = partialLine.size();
+		final byte[] bytes = partialLine.toByteArray();
+		if (length > 0 && bytes[length - 1] == '\r')
+		{
+			length--;
+		}
+		return new String(bytes, 0, length, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollBar;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.border.EmptyBorder;
+import javax.swing.text.BadLocationException;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.splashscreen.util.CustomScrollBarUI;
+import net.runelite.splashscreen.util.IoExecutor;
+import net.runelite.splashscreen.util.LinkBrowser;
+import net.runelite.splashscreen.util.SwingUtil;
+
+/**
+ * A window showing the last lines of a log file which follows whatever is appended to it, see {@link LogTail}.
+ * The file is read on the {@link IoExecutor} threads, the EDT only appends the new lines to the text area.
+ */
+@Slf4j
+class LogViewer extends JDialog
+{
+	private static final int MAX_LINES = 2000;
+	private static final int POLL_INTERVAL = 500;
+	private static final Dimension SIZE = new Dimension(800, 500);
+
+	private final File logFile;
+	private final LogTail tail;
+	private final JTextArea textArea = new JTextArea();
+	private final JScrollPane scrollPane;
+	private final Timer timer;
+	// Only accessed on the EDT
+	private boolean polling;
+
+	LogViewer(final Component parent, final File logFile, final boolean modal)
+	{
+		super(JOptionPane.getFrameForComponent(parent), "RuneLite - " + logFile.getName(), modal);
+		this.logFile = logFile;
+		this.tail = new LogTail(logFile.toPath(), MAX_LINES);
+
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		SwingUtil.applyLogo(this);
+
+		textArea.setEditable(false);
+		textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+		textArea.setForeground(Color.WHITE);
+		textArea.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		textArea.setCaretColor(Color.WHITE);
+		textArea.setBorder(new EmptyBorder(5, 5, 5, 5));
+
+		scrollPane = new JScrollPane(textArea);
+		scrollPane.setBorder(new EmptyBorder(0, 0, 0, 0));
+		scrollPane.getVerticalScrollBar().setUI(new CustomScrollBarUI());
+		scrollPane.getHorizontalScrollBar().setUI(new CustomScrollBarUI());
+
+		final JButton openExternally = SwingUtil.createFlatButton("Open externally", JOptionPane.YES_OPTION);
+		openExternally.addActionListener(e -> LinkBrowser.openLocalFileAsync(logFile));
+		final JButton close = SwingUtil.createFlatButton("Close", JOptionPane.NO_OPTION);
+		close.addActionListener(e -> dispose());
+
+		final JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+		buttons.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		buttons.add(openExternally);
+		buttons.add(close);
+
+		final JPanel content = new JPanel(new BorderLayout());
+		content.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		content.add(scrollPane, BorderLayout.CENTER);
+		content.add(buttons, BorderLayout.SOUTH);
+		setContentPane(content);
+		setSize(SIZE);
+		setLocationRelativeTo(parent);
+
+		timer = new Timer(POLL_INTERVAL, e -> poll());
+		timer.setInitialDelay(0);
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosed(WindowEvent e)
+			{
+				timer.stop();
+			}
+		});
+		timer.start();
+	}
+
+	/**
+	 * Opens a viewer for the log file
+	 * @param modal whether to block until the viewer is closed, for callers which may exit right after
+	 */
+	static void open(final Component parent, final File logFile, final boolean modal)
+	{
+		if (logFile == null || !logFile.isFile())
+		{
+			LinkBrowser.openLocalFileAsync(logFile);
+			return;
+		}
+
+		new LogViewer(parent, logFile, modal).setVisible(true);
+	}
+
+	private void poll()
+	{
+		if (polling)
+		{
+			return;
+		}
+
+		polling = true;
+		IoExecutor.supplyAsync(() ->
+		{
+			try
+			{
+				return tail.poll();
+			}
+			catch (IOException e)
+			{
+				log.debug("Unable to read {}", logFile, e);
+				return null;
+			}
+		}).thenAccept(update -> SwingUtilities.invokeLater(() ->
+		{
+			polling = false;
+			if (update != null && isDisplayable())
+			{
+				append(update);
+			}
+		}));
+	}
+
+	private void append(final LogTail.Update update)
+	{
+		if (update.isReset())
+		{
+			textArea.setText("");
+		}
+
+		final List<String> lines = update.getLines();
+		if (lines.isEmpty())
+		{
+			return;
+		}
+
+		// Keep following the end of the log unless the user scrolled up
+		final JScrollBar bar = scrollPane.getVerticalScrollBar();
+		final boolean atBottom = bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum();
+
+		final StringBuilder sb = new StringBuilder();
+		for (final String line : lines)
+		{
+			if (sb.length() > 0 || textArea.getDocument().getLength() > 0)
+			{
+				sb.append('\n');
+			}
+			sb.append(line);
+		}
+		textArea.append(sb.toString());
+
+		final int excess = textArea.getLineCount() - MAX_LINES;
+		if (excess > 0)
+		{
+			try
+			{
+				textArea.replaceRange(null, 0, textArea.getLineEndOffset(excess - 1));
+			}
+			catch (BadLocationException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}
+
+		if (atBottom)
+		{
+			textArea.setCaretPosition(textArea.getDocument().getLength());
+		}
+	}
+}
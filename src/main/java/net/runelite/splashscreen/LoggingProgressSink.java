@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link ProgressSink} which writes the progress of the launch to the log
+ */
+@Slf4j
+public class LoggingProgressSink implements ProgressSink
+{
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	@Override
+	public void setMessage(final String msg, final int value)
+	{
+		log.info("[{}%] {}", value, msg);
+	}
+
+	@Override
+	public void setBarText(final String text)
+	{
+		if (text != null)
+		{
+			log.debug("{}", text);
+		}
+	}
+
+	@Override
+	public void downloadProgress(final String file, final long transferredBytes, final long expectedBytes)
+	{
+		log.info("Downloaded {} of {} MB, currently {}", String.format("%.1f", transferredBytes / BYTES_PER_MEGABYTE),
+			String.format("%.1f", expectedBytes / BYTES_PER_MEGABYTE), file);
+	}
+}
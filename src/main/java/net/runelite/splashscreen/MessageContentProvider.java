@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.splashscreen.util.IoExecutor;
+
+/**
+ * Serves the message content from a local cache file right away and revalidates it against a {@link ContentSource}
+ * in the background, so the splash screen can show the last known news without waiting on the network.
+ * The listener is only called again when the fetched content is a different version than the cached one.
+ */
+@Slf4j
+public class MessageContentProvider
+{
+	public static final File DEFAULT_CACHE_FILE = new File(new File(System.getProperty("user.home"), ".runelite"), "splash-content.cache");
+
+	private static final int MAGIC = 0x4d534743;
+	private static final int FORMAT_VERSION = 1;
+
+	private final File cacheFile;
+	private final ContentSource source;
+
+	public MessageContentProvider(final File cacheFile, final ContentSource source)
+	{
+		this.cacheFile = cacheFile;
+		this.source = source;
+	}
+
+	/**
+	 * Loads the cached content on the {@link IoExecutor} file threads and then revalidates it on its network threads
+	 * @param listener called with the html of the cached content, if any, and again with the fetched content if it changed
+	 * @return a future completed with the content which is current once revalidation has finished, or null if there is none
+	 */
+	public CompletableFuture<MessageContent> load(final Consumer<String> listener)
+	{
+		return IoExecutor.supplyAsync(() ->
+		{
+			final MessageContent cached = readCache();
+			if (cached != null)
+			{
+				listener.accept(cached.getHtml());
+			}
+			return cached;
+		}).thenCompose(cached -> IoExecutor.supplyNetworkAsync(() -> revalidate(cached, listener)));
+	}
+
+	private MessageContent revalidate(final MessageContent cached, final Consumer<String> listener)
+	{
+		final MessageContent fetched;
+		try
+		{
+			fetched = source.fetch(cached == null ? null : cached.getVersion());
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to fetch the message content, keeping the cached content", e);
+			return cached;
+		}
+
+		if (fetched == null)
+		{
+			return cached;
+		}
+
+		final MessageContent latest = fetched.getVersion() != null
+			? fetched
+			: new MessageContent(hash(fetched.getHtml()), fetched.getHtml());
+		if (cached != null && latest.getVersion().equals(cached.getVersion()))
+		{
+			return cached;
+		}
+
+		try
+		{
+			writeCache(latest);
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to cache the message content in {}", cacheFile, e);
+		}
+
+		listener.accept(latest.getHtml());
+		return latest;
+	}
+
+	private MessageContent readCache()
+	{
+		if (!cacheFile.isFile())
+		{
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ))
+		{
+			// Read in one go rather than mapped, a mapping keeps the file locked on Windows until it is garbage
+			// collected which would fail replacing the file after revalidating
+			final ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+			while (buffer.hasRemaining())
+			{
+				if (channel.read(buffer) == -1)
+				{
+					throw new EOFException();
+				}
+			}
+			buffer.flip();
+
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+			{
+				return null;
+			}
+
+			final String version = readString(buffer);
+			final String html = readString(buffer);
+			return new MessageContent(version, html);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			// A truncated or corrupt cache is simply refetched
+			log.debug("Unable to read the message content cache {}", cacheFile, e);
+			return null;
+		}
+	}
+
+	private static String readString(final ByteBuffer buffer)
+	{
+		final byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void writeCache(final MessageContent content) throws IOException
+	{
+		final byte[] version = content.getVersion().getBytes(StandardCharsets.UTF_8);
+		final byte[] html = content.getHtml().getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer buffer = ByteBuffer.allocate(16 + version.length + html.length);
+		buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+		buffer.putInt(version.length).put(version);
+		buffer.putInt(html.length).put(html);
+		buffer.flip();
+
+		final Path path = cacheFile.toPath().toAbsolutePath();
+		Files.createDirectories(path.getParent());
+
+		// Written to a temporary file first so a crash can never leave a truncated cache behind
+		final Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			while (buffer.hasRemaining())
+			{
+				channel.write(buffer);
+			}
+		}
+
+		Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static String hash(final String html)
+	{
+		try
+		{
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(html.getBytes(StandardCharsets.UTF_8));
+			final StringBuilder sb = new StringBuilder(digest.length * 2);
+			for (final byte b : digest)
+			{
+				sb.append(String.format("%02x", b));
+			}
+			return sb.toString();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.swing.JEditorPane;
+
+/**
+ * Turns message content into a ready to display {@link JEditorPane}.
+ * Only preparing the markup may happen on any thread. The pane is created, and the html parsed into it and laid out,
+ * on the EDT like any other Swing component, each pane with its own editor kit.
+ * The panes of the most recently used content are kept so showing the same content again is free.
+ */
+class MessageContentRenderer
+{
+	private static final int CACHE_SIZE = 8;
+
+	private final Supplier<JEditorPane> paneFactory;
+	private final int width;
+	// Only used on the EDT
+	private final Map<String, JEditorPane> cache = new LinkedHashMap<String, JEditorPane>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, JEditorPane> eldest)
+		{
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * @param paneFactory creates an empty, fully styled pane to render content into
+	 * @param width the width the content is laid out at, which should be the width it is displayed at
+	 */
+	MessageContentRenderer(final Supplier<JEditorPane> paneFactory, final int width)
+	{
+		this.paneFactory = paneFactory;
+		this.width = width;
+	}
+
+	/**
+	 * Prepares content for {@link #render(String)}. This only works on the string and is safe to call from any thread.
+	 * @param content the html to display, plain text is centered
+	 * @return the content wrapped in html tags
+	 */
+	static String prepare(final String content)
+	{
+		if (content.startsWith("<html"))
+		{
+			return content;
+		}
+		return "<html><div style='text-align:center;'>" + content + "</div></html>";
+	}
+
+	/**
+	 * Must be called on the EDT.
+	 * @param html the content to render, which must already be wrapped in html tags
+	 * @return the rendered pane, shared between every request for the same content
+	 */
+	JEditorPane render(final String html)
+	{
+		return cache.computeIfAbsent(html, this::build);
+	}
+
+	/**
+	 * Creates a pane, parses the html into it and lays it out at the display width
+	 */
+	JEditorPane build(final String html)
+	{
+		final JEditorPane pane = paneFactory.get();
+		pane.setContentType("text/html");
+		pane.setText(html);
+		pane.setSize(width, Short.MAX_VALUE);
+		pane.setSize(width, pane.getPreferredSize().height);
+		return pane;
+	}
+}
@@ -29,17 +29,18 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JEditorPane;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
-import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
-import javax.swing.border.MatteBorder;
-import javax.swing.plaf.basic.BasicProgressBarUI;
 import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.splashscreen.util.CustomScrollBarUI;
+import net.runelite.splashscreen.util.FontManager;
 import net.runelite.splashscreen.util.SwingUtil;
 
 @Getter
@@ -48,14 +49,33 @@ public class MessagePanel extends JPanel
 	private static final Dimension PANEL_SIZE = new Dimension(RuneLiteSplashScreen.FRAME_SIZE.width - InfoPanel.PANEL_SIZE.width, RuneLiteSplashScreen.FRAME_SIZE.height);
 	private static final Dimension BAR_SIZE = new Dimension(PANEL_SIZE.width, 30);
 	private static final int MESSAGE_AREA_PADDING = 15;
+	/* The maximum value of the progress bar, well above its width in pixels so every pixel of it is used */
+	static final int BAR_MAXIMUM = 1 << 16;
+	private static final String DEFAULT_CONTENT = "<html><div>" +
+		"<ul>\n" +
+		"<li>Add divine potion timers to the timers plugin</li>\n" +
+		"<li>Add Zalcano respawn timer to the boss plugin</li>\n" +
+		"<li>Add Prifddinas farming patches to the time tracking plugin</li>\n" +
+		"<li>Add Gauntlet kill count and personal best support to chat commands</li>\n" +
+		"<li>Add Prifddinas agility course \"kill count\" and personal best to chat commands</li>\n" +
+		"<li>Updates to the world map</li></ul>" +
+		"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum."
+		+ "</div></html>";
 
 	private final JLabel titleLabel = new JLabel("Welcome to RuneLite");
-	private final JLabel messageArea;
+	private JEditorPane messagePane;
 	private final JLabel barLabel = new JLabel("Doing something important");
-	private final JProgressBar bar = new JProgressBar(0, 100);
+	private final ProgressBar bar = new ProgressBar(BAR_MAXIMUM);
 
 	@Getter(AccessLevel.NONE)
 	private final JScrollPane scrollPane;
+	@Getter(AccessLevel.NONE)
+	private final MessageContentRenderer renderer = new MessageContentRenderer(MessagePanel::createMessageArea, PANEL_SIZE.width);
+	/* Incremented on every content change so a slower parse never replaces newer content */
+	@Getter(AccessLevel.NONE)
+	private final AtomicInteger contentVersion = new AtomicInteger();
+	@Getter(AccessLevel.NONE)
+	private JLabel legacyMessageArea;
 
 	public MessagePanel()
 	{
@@ -72,37 +92,16 @@ public class MessagePanel extends JPanel
 		c.ipady = 25;
 
 		// main message
-		titleLabel.setFont(new Font(SwingUtil.RUNESCAPE_FONT.getName(), SwingUtil.RUNESCAPE_FONT.getStyle(), 32));
+		FontManager.applyFont(titleLabel, FontManager.Face.RUNESCAPE, Font.PLAIN, 32);
 		titleLabel.setHorizontalAlignment(JLabel.CENTER);
 		titleLabel.setForeground(Color.WHITE);
 		this.add(titleLabel, c);
 		c.gridy++;
 
 		// alternate message action
-		messageArea = new JLabel("<html><div>" +
-			"<ul>\n" +
-			"<li>Add divine potion timers to the timers plugin</li>\n" +
-			"<li>Add Zalcano respawn timer to the boss plugin</li>\n" +
-			"<li>Add Prifddinas farming patches to the time tracking plugin</li>\n" +
-			"<li>Add Gauntlet kill count and personal best support to chat commands</li>\n" +
-			"<li>Add Prifddinas agility course \"kill count\" and personal best to chat commands</li>\n" +
-			"<li>Updates to the world map</li></ul>" +
-			"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum."
-			+ "</div></html>")
-		{
-			@Override
-			public Dimension getPreferredSize()
-			{
-				final Dimension results = super.getPreferredSize();
-				results.width = PANEL_SIZE.width - MESSAGE_AREA_PADDING;
-				return results;
-			}
-		};
-		messageArea.setFont(new Font(SwingUtil.RUNESCAPE_FONT_SMALL.getName(), SwingUtil.RUNESCAPE_FONT_SMALL.getStyle(), 12));
-		messageArea.setForeground(Color.WHITE);
-		messageArea.setBorder(new EmptyBorder(0, MESSAGE_AREA_PADDING, 0,MESSAGE_AREA_PADDING));
+		messagePane = renderer.render(DEFAULT_CONTENT);
 
-		scrollPane = new JScrollPane(messageArea, JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED, JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+		scrollPane = new JScrollPane(messagePane, JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED, JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
 		scrollPane.setBorder(new EmptyBorder(0, 0, 0, 0));
 		scrollPane.getVerticalScrollBar().setUI(new CustomScrollBarUI());
 		final JViewport viewport = scrollPane.getViewport();
@@ -119,7 +118,7 @@ public class MessagePanel extends JPanel
 		c.weightx = 1;
 		c.ipady = 5;
 
-		barLabel.setFont(SwingUtil.RUNESCAPE_FONT);
+		FontManager.applyFont(barLabel, FontManager.Face.RUNESCAPE, Font.PLAIN, 16);
 		barLabel.setHorizontalAlignment(JLabel.CENTER);
 		barLabel.setForeground(Color.WHITE);
 		barLabel.setBorder(new EmptyBorder(5, 0, 5, 0));
@@ -128,36 +127,99 @@ public class MessagePanel extends JPanel
 
 		bar.setBackground(SwingUtil.BRAND_ORANGE_TRANSPARENT.darker());
 		bar.setForeground(SwingUtil.BRAND_ORANGE);
+		bar.setTextColor(SwingUtil.DARKER_GRAY_COLOR);
+		bar.setPreferredSize(BAR_SIZE);
 		bar.setMinimumSize(BAR_SIZE);
 		bar.setMaximumSize(BAR_SIZE);
-		bar.setBorder(new MatteBorder(0, 0, 0, 0, Color.LIGHT_GRAY));
-		bar.setUI(new BasicProgressBarUI()
+		FontManager.applyFont(bar, FontManager.Face.RUNESCAPE, Font.PLAIN, 16);
+		this.add(bar, c);
+		c.gridy++;
+	}
+
+	private static JEditorPane createMessageArea()
+	{
+		// Scrolling and repaints of the rest of the panel copy the rendered content from an image
+		final JEditorPane messageArea = new CachedEditorPane();
+		messageArea.setContentType("text/html");
+		messageArea.setEditable(false);
+		messageArea.setFocusable(false);
+		// Opaque in the color of the viewport so the viewport can blit while scrolling
+		messageArea.setOpaque(true);
+		messageArea.setBackground(SwingUtil.DARKER_GRAY_COLOR);
+		// Style the document with the font and color of the component, like a label
+		messageArea.putClientProperty(JEditorPane.HONOR_DISPLAY_PROPERTIES, Boolean.TRUE);
+		FontManager.applyFont(messageArea, FontManager.Face.RUNESCAPE_SMALL, Font.PLAIN, 12);
+		messageArea.setForeground(Color.WHITE);
+		messageArea.setBorder(new EmptyBorder(0, MESSAGE_AREA_PADDING, 0, MESSAGE_AREA_PADDING));
+		return messageArea;
+	}
+
+	/**
+	 * @return a label which is not displayed, text set on it is passed on to {@link #setMessageContent(String)}
+	 * @deprecated the message is displayed by {@link #getMessagePane()} now, use {@link #setMessageContent(String)}
+	 */
+	@Deprecated
+	public JLabel getMessageArea()
+	{
+		if (legacyMessageArea == null)
 		{
-			protected Color getSelectionBackground()
+			legacyMessageArea = new JLabel()
 			{
-				return SwingUtil.DARKER_GRAY_COLOR;
-			}
+				{
+					// Never displayed, so the html does not need to be parsed
+					putClientProperty("html.disable", Boolean.TRUE);
+				}
+
+				@Override
+				public void setText(final String text)
+				{
+					super.setText(text);
+					if (text != null && !text.isEmpty())
+					{
+						setMessageContent(text);
+					}
+				}
+			};
+		}
+		return legacyMessageArea;
+	}
 
-			protected Color getSelectionForeground()
+	/**
+	 * Sets the content of the message area. This may be called from any thread: only the markup is prepared on the
+	 * calling thread, the message area is rendered and swapped in on the EDT, content which was already shown
+	 * recently is reused as is.
+	 * @param content the html to display, plain text is centered
+	 */
+	public void setMessageContent(final String content)
+	{
+		final String html = MessageContentRenderer.prepare(content);
+		final int version = contentVersion.incrementAndGet();
+		if (SwingUtilities.isEventDispatchThread())
+		{
+			showMessagePane(renderer.render(html));
+			return;
+		}
+
+		SwingUtilities.invokeLater(() ->
+		{
+			if (contentVersion.get() == version)
 			{
-				return SwingUtil.DARKER_GRAY_COLOR;
+				showMessagePane(renderer.render(html));
 			}
 		});
-		bar.setFont(SwingUtil.RUNESCAPE_FONT);
-		bar.setVisible(true);
-		this.add(bar, c);
-		c.gridy++;
 	}
 
-	public void setMessageContent(String content)
+	/**
+	 * Swaps a rendered message area into the scroll pane
+	 */
+	void showMessagePane(final JEditorPane messagePane)
 	{
-		if (!content.startsWith("<html"))
+		if (this.messagePane == messagePane)
 		{
-			content = "<html><div style='text-align:center;'>" + content + "</div></html>";
+			return;
 		}
 
-		messageArea.setText(content);
-		messageArea.revalidate();
-		messageArea.repaint();
+		this.messagePane = messagePane;
+		scrollPane.setViewportView(messagePane);
 	}
 }
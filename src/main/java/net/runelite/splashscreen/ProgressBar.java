@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.Rectangle2D;
+import javax.swing.JComponent;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A lightweight progress bar which, unlike {@link javax.swing.JProgressBar}, never revalidates when its value or
+ * text changes. Value changes only repaint the strip of the bar whose fill changed and the laid out text is cached
+ * as a {@link GlyphVector} until the text, font or render context changes.
+ */
+public class ProgressBar extends JComponent
+{
+	@Getter
+	private final int maximum;
+	@Getter
+	private int value;
+	@Getter
+	private String text;
+
+	/* Position of the block sweeping across the bar while the amount of work is unknown, from 0 to 1, or -1 */
+	@Getter
+	private float indeterminatePosition = -1;
+
+	/* The color of the text drawn on top of the bar */
+	@Getter
+	@Setter
+	private Color textColor = Color.WHITE;
+
+	private GlyphVector glyphs;
+	private FontRenderContext glyphContext;
+	private Rectangle textBounds;
+	private float textBaseline;
+	private int layoutWidth;
+	private int layoutHeight;
+
+	public ProgressBar(final int maximum)
+	{
+		this.maximum = maximum;
+		setOpaque(false);
+	}
+
+	public void setValue(int value)
+	{
+		value = Math.max(0, Math.min(maximum, value));
+		if (value == this.value)
+		{
+			return;
+		}
+
+		final int oldFill = fillWidth(this.value);
+		final int newFill = fillWidth(value);
+		this.value = value;
+
+		if (oldFill != newFill)
+		{
+			repaint(Math.min(oldFill, newFill), 0, Math.abs(newFill - oldFill), getHeight());
+		}
+	}
+
+	/**
+	 * Shows a block sweeping across the bar instead of the value, for when the amount of work is unknown
+	 * @param position the position of the block from 0 to 1, or -1 to show the value again
+	 */
+	public void setIndeterminatePosition(final float position)
+	{
+		if (position == indeterminatePosition)
+		{
+			return;
+		}
+
+		indeterminatePosition = position;
+		repaint();
+	}
+
+	/**
+	 * Sets the text painted on top of the bar
+	 * @param text the text to paint, or null to not paint any text
+	 */
+	public void setText(final String text)
+	{
+		if (text == null ? this.text == null : text.equals(this.text))
+		{
+			return;
+		}
+
+		this.text = text;
+		this.glyphs = null;
+
+		// Repaint where the old text was, the new text bounds are not known until it is laid out while painting
+		if (textBounds != null)
+		{
+			repaint(textBounds);
+			textBounds = null;
+		}
+
+		if (text != null)
+		{
+			repaint();
+		}
+	}
+
+	@Override
+	public void setFont(final Font font)
+	{
+		glyphs = null;
+		super.setFont(font);
+	}
+
+	@Override
+	protected void paintComponent(final Graphics graphics)
+	{
+		final Graphics2D g = (Graphics2D) graphics;
+		final int width = getWidth();
+		final int height = getHeight();
+		if (indeterminatePosition >= 0)
+		{
+			final int block = width / 4;
+			g.setColor(getBackground());
+			g.fillRect(0, 0, width, height);
+			g.setColor(getForeground());
+			g.fillRect((int) ((width + block) * indeterminatePosition) - block, 0, block, height);
+		}
+		else
+		{
+			final int fill = fillWidth(value);
+			g.setColor(getBackground());
+			g.fillRect(fill, 0, width - fill, height);
+			g.setColor(getForeground());
+			g.fillRect(0, 0, fill, height);
+		}
+
+		if (text == null || getFont() == null)
+		{
+			return;
+		}
+
+		final FontRenderContext frc = g.getFontRenderContext();
+		if (glyphs == null || !frc.equals(glyphContext))
+		{
+			glyphs = getFont().createGlyphVector(frc, text);
+			glyphContext = frc;
+			textBounds = null;
+		}
+
+		if (textBounds == null || layoutWidth != width || layoutHeight != height)
+		{
+			final Rectangle2D bounds = glyphs.getLogicalBounds();
+			final int x = (int) ((width - bounds.getWidth()) / 2);
+			final int y = (int) ((height - bounds.getHeight()) / 2);
+			textBounds = new Rectangle(x, y, (int) Math.ceil(bounds.getWidth()) + 1, (int) Math.ceil(bounds.getHeight()) + 1);
+			textBaseline = y - (float) bounds.getY();
+			layoutWidth = width;
+			layoutHeight = height;
+		}
+
+		g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		g.setColor(textColor);
+		g.drawGlyphVector(glyphs, textBounds.x, textBaseline);
+	}
+
+	private int fillWidth(final int value)
+	{
+		return (int) ((long) getWidth() * value / maximum);
+	}
+}
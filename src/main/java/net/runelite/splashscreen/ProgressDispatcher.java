@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans the progress of a launch out to any number of {@link ProgressSink}s.
+ * Every sink is called from its own daemon thread at its own interval: stage and bar text events are queued per sink
+ * and delivered in batches, while the download totals are read from the {@link DownloadTracker} when the sink is due
+ * rather than pushed, so download threads never interact with the sinks at all.
+ */
+@Slf4j
+public class ProgressDispatcher
+{
+	/* Events are dropped rather than queued without bound when a sink falls this far behind */
+	private static final int QUEUE_SIZE = 256;
+	private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+	@AllArgsConstructor
+	private static class Event
+	{
+		private final String message;
+		private final int value;
+		/* True for a stage change, false for a bar text change */
+		private final boolean stage;
+	}
+
+	private final DownloadTracker downloads;
+	private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+	private volatile boolean closed;
+
+	ProgressDispatcher(final DownloadTracker downloads)
+	{
+		this.downloads = downloads;
+	}
+
+	/**
+	 * Adds a sink which is called at most once per interval on its own thread
+	 * @param sink the sink to add
+	 * @param intervalMillis how often the sink is updated
+	 */
+	public void addSink(final ProgressSink sink, final long intervalMillis)
+	{
+		if (closed)
+		{
+			throw new IllegalStateException("The launch has already finished");
+		}
+
+		registrations.add(new Registration(sink, intervalMillis));
+	}
+
+	/**
+	 * Removes a sink, it is closed once its queued updates have been delivered
+	 */
+	public void removeSink(final ProgressSink sink)
+	{
+		for (final Registration registration : registrations)
+		{
+			if (registration.sink == sink && registrations.remove(registration))
+			{
+				registration.close();
+			}
+		}
+	}
+
+	void setMessage(final String msg, final int value)
+	{
+		publish(new Event(msg, value, true));
+	}
+
+	void setBarText(final String text)
+	{
+		publish(new Event(text, 0, false));
+	}
+
+	/**
+	 * Delivers the remaining updates to every sink and then closes them
+	 */
+	void close()
+	{
+		closed = true;
+		for (final Registration registration : registrations)
+		{
+			registration.close();
+		}
+		registrations.clear();
+	}
+
+	private void publish(final Event event)
+	{
+		for (final Registration registration : registrations)
+		{
+			if (!registration.events.offer(event))
+			{
+				log.debug("Dropping progress event for slow sink {}", registration.sink);
+			}
+		}
+	}
+
+	private class Registration
+	{
+		private final ProgressSink sink;
+		private final BlockingQueue<Event> events = new ArrayBlockingQueue<>(QUEUE_SIZE);
+		private final ScheduledExecutorService executor;
+
+		// Only accessed on the executor thread
+		private final List<Event> batch = new ArrayList<>();
+		private String lastFile;
+		private long lastTransferred = -1;
+		private long lastExpected = -1;
+
+		Registration(final ProgressSink sink, final long intervalMillis)
+		{
+			this.sink = sink;
+			this.executor = Executors.newSingleThreadScheduledExecutor(r ->
+			{
+				final Thread thread = new Thread(r, "splash-progress-sink-" + THREAD_ID.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.scheduleWithFixedDelay(this::deliver, 0, intervalMillis, TimeUnit.MILLISECONDS);
+		}
+
+		private void deliver()
+		{
+			try
+			{
+				events.drainTo(batch);
+				for (int i = 0; i < batch.size(); i++)
+				{
+					final Event event = batch.get(i);
+					if (event.stage)
+					{
+						sink.setMessage(event.message, event.value);
+					}
+					// Only the last bar text before the next stage change is worth delivering
+					else if (i + 1 == batch.size() || batch.get(i + 1).stage)
+					{
+						sink.setBarText(event.message);
+					}
+				}
+
+				final String file = downloads.getActiveFile();
+				final long transferred = downloads.getTransferredBytes();
+				final long expected = downloads.getExpectedBytes();
+				if (transferred != lastTransferred || expected != lastExpected || !Objects.equals(file, lastFile))
+				{
+					lastFile = file;
+					lastTransferred = transferred;
+					lastExpected = expected;
+					if (file != null || transferred > 0)
+					{
+						sink.downloadProgress(file, transferred, expected);
+					}
+				}
+			}
+			catch (RuntimeException e)
+			{
+				log.warn("Progress sink {} failed", sink, e);
+			}
+			finally
+			{
+				batch.clear();
+			}
+		}
+
+		private void close()
+		{
+			// Runs after any delivery in progress, then lets the thread go away
+			executor.execute(() ->
+			{
+				deliver();
+				try
+				{
+					sink.close();
+				}
+				catch (RuntimeException e)
+				{
+					log.warn("Progress sink {} failed to close", sink, e);
+				}
+			});
+			executor.shutdown();
+		}
+	}
+}
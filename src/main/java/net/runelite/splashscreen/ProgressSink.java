@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+/**
+ * Receives the progress of a launch: its stages, the bar text and the download totals.
+ * Sinks added through {@link ProgressDispatcher#addSink(ProgressSink, long)} are called from their own background
+ * thread at their own cadence, so they may block without slowing down the launch or any other sink.
+ */
+public interface ProgressSink
+{
+	/**
+	 * @param msg the message of the stage which started
+	 * @param value the percentage of the launch done, from 0 to 100
+	 */
+	void setMessage(String msg, int value);
+
+	/**
+	 * @param text the text displayed on the bar, or null for none
+	 */
+	void setBarText(String text);
+
+	/**
+	 * Called with the latest download totals when they changed since the previous call, never more often than the
+	 * cadence of the sink
+	 * @param file the file which most recently reported progress
+	 * @param transferredBytes the total amount of bytes downloaded so far
+	 * @param expectedBytes the total amount of bytes expected to be downloaded
+	 */
+	void downloadProgress(String file, long transferredBytes, long expectedBytes);
+
+	/**
+	 * Called once the launch has finished, after every other update
+	 */
+	default void close()
+	{
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A stage of the launch in the weighted stage tree the progress bar is computed from.
+ * Each stage declares a weight relative to its siblings and either reports its own progress or is made up of
+ * sub-stages, so independent phases such as parallel downloads, hash verification and unpacking can each report
+ * their own progress and still combine into a single bar.
+ * <p>
+ * Every stage keeps the weighted sum of its sub-stages in a single atomically swapped state. A change is applied
+ * with a compare-and-set and the exact change of the stage's fraction is then added to its parent, so an update
+ * costs O(depth) and never takes a lock or walks the rest of the tree.
+ */
+public final class ProgressStage
+{
+	@AllArgsConstructor
+	private static final class State
+	{
+		private final double progress;
+		private final double sum;
+		private final double weight;
+		private final boolean complete;
+
+		private double fraction()
+		{
+			if (complete)
+			{
+				return 1;
+			}
+			return weight > 0 ? sum / weight : progress;
+		}
+	}
+
+	private static final State EMPTY = new State(0, 0, 0, false);
+
+	@Getter
+	private final String name;
+	@Getter
+	private final double weight;
+	private final ProgressStage parent;
+	private final AtomicReference<State> state = new AtomicReference<>(EMPTY);
+	// Only used by the root
+	private volatile Runnable listener = () ->
+	{
+	};
+
+	private ProgressStage(final String name, final double weight, final ProgressStage parent)
+	{
+		this.name = name;
+		this.weight = weight;
+		this.parent = parent;
+	}
+
+	/**
+	 * Creates the root of a stage tree, whose fraction is the fraction of the whole bar
+	 */
+	static ProgressStage root()
+	{
+		return new ProgressStage("", 1, null);
+	}
+
+	/**
+	 * Sets the callback run after every change of the fraction of this root, from whichever thread made the change
+	 */
+	void setListener(final Runnable listener)
+	{
+		this.listener = listener;
+	}
+
+	/**
+	 * Adds a sub-stage. Once a stage has sub-stages its fraction is their weighted average and any progress set on
+	 * the stage itself is ignored. Adding a sub-stage later on moves the stage back accordingly.
+	 * @param name the name of the sub-stage
+	 * @param weight the weight of the sub-stage relative to its siblings, for example its expected duration or size
+	 * @return the sub-stage
+	 */
+	public ProgressStage addStage(final String name, final double weight)
+	{
+		if (!(weight > 0) || Double.isInfinite(weight))
+		{
+			throw new IllegalArgumentException("Stage weight must be positive: " + weight);
+		}
+
+		update(s -> new State(s.progress, s.sum, s.weight + weight, s.complete));
+		return new ProgressStage(name, weight, this);
+	}
+
+	/**
+	 * Sets the progress of this stage, from any thread
+	 * @param fraction the fraction of this stage which is done, from 0 to 1
+	 */
+	public void setProgress(final double fraction)
+	{
+		final double progress = Double.isNaN(fraction) ? 0 : Math.max(0, Math.min(1, fraction));
+		update(s ->
+		{
+			if (s.weight > 0)
+			{
+				throw new IllegalStateException("The progress of stage " + name + " is computed from its sub-stages");
+			}
+			return new State(progress, s.sum, s.weight, s.complete);
+		});
+	}
+
+	/**
+	 * Sets the progress of this stage as an amount of work done, such as downloaded bytes, from any thread
+	 * @param done the amount of work done
+	 * @param total the total amount of work, the call is ignored if this is not positive
+	 */
+	public void setProgress(final long done, final long total)
+	{
+		if (total > 0)
+		{
+			setProgress((double) done / total);
+		}
+	}
+
+	/**
+	 * Marks this stage, including any sub-stages which have not finished, as done
+	 */
+	public void complete()
+	{
+		update(s -> s.complete ? s : new State(s.progress, s.sum, s.weight, true));
+	}
+
+	/**
+	 * @return the fraction of this stage which is done, from 0 to 1
+	 */
+	public double getFraction()
+	{
+		return Math.max(0, Math.min(1, state.get().fraction()));
+	}
+
+	/**
+	 * @return true if sub-stages have been added to this stage
+	 */
+	public boolean hasStages()
+	{
+		return state.get().weight > 0;
+	}
+
+	private void subStageChanged(final double weightedDelta)
+	{
+		update(s -> new State(s.progress, s.sum + weightedDelta, s.weight, s.complete));
+	}
+
+	private void update(final UnaryOperator<State> change)
+	{
+		State current;
+		State next;
+		do
+		{
+			current = state.get();
+			next = change.apply(current);
+		}
+		while (!state.compareAndSet(current, next));
+
+		// The exact difference between two consecutive states, so the sums of the parents always add up
+		final double delta = next.fraction() - current.fraction();
+		if (delta == 0)
+		{
+			return;
+		}
+
+		if (parent != null)
+		{
+			parent.subStageChanged(weight * delta);
+		}
+		else
+		{
+			listener.run();
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return name + " " + getFraction();
+	}
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Coalesces splash screen updates coming from any thread into a single, frame-rate capped update on the EDT.
+ * Producers only write the latest values into volatile fields and raise a dirty flag, which wakes the
+ * {@link AnimationClock}. The next frame then applies whatever the most recent state is and eases the bar towards
+ * its new value. While nothing changes and nothing is animating the clock is left idle.
+ * <p>
+ * Between stage messages the bar keeps creeping forward based on how long the current stage took in previous
+ * launches, see {@link StageHistory}, and shows an estimate of the time remaining when no other bar text is set.
+ * Once stages have been added to the {@link ProgressStage} tree the bar follows the tree instead.
+ */
+class ProgressUpdater implements AnimationClock.Animation
+{
+	/* Time constant of the easing of the bar towards its value */
+	private static final double EASING_NANOS = TimeUnit.MILLISECONDS.toNanos(120);
+	/* Distance at which the eased bar snaps to its value, well below a pixel */
+	private static final double SNAP_DISTANCE = MessagePanel.BAR_MAXIMUM / 2000.0;
+	/* How often a predicted stage advances the bar */
+	private static final long PREDICTION_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+	/* Duration of one sweep of the bar while the size of the downloads is unknown */
+	private static final long INDETERMINATE_PERIOD = TimeUnit.MILLISECONDS.toNanos(1500);
+	private static final String DOWNLOADING_PREFIX = "Downloading ";
+	private static final long RATE_TEXT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private final MessagePanel messagePanel;
+	private final AnimationClock clock;
+	private final AtomicBoolean dirty = new AtomicBoolean();
+	@Getter
+	private final DownloadTracker downloads;
+	private final StageHistory stageHistory;
+	private final ProgressStage stages;
+	private final SplashMetrics metrics;
+
+	// Written by producers, read on the EDT
+	private volatile String message;
+	private volatile int value;
+	private volatile String barText;
+	private volatile boolean downloading;
+	// Portion of the bar downloads are distributed over, in bar units
+	@Setter
+	private volatile int progressStart = 0;
+	@Setter
+	private volatile int progressEnd = MessagePanel.BAR_MAXIMUM;
+
+	// Only accessed on the EDT
+	private final TransferRateEstimator rateEstimator = new TransferRateEstimator();
+	private boolean wasDownloading;
+	private long lastRateUpdate;
+	private String rateText = "";
+	private String lastDownloadFile;
+	private String lastDownloadText;
+	private long lastEtaUpdate;
+	private String etaText;
+	private int targetValue;
+	private double displayedValue;
+	private long lastFrame;
+
+	ProgressUpdater(final MessagePanel messagePanel, final LaunchState launchState, final AnimationClock clock)
+	{
+		this.messagePanel = messagePanel;
+		this.clock = clock;
+		this.downloads = launchState.getDownloads();
+		this.stageHistory = launchState.getStageHistory();
+		this.stages = launchState.getStages();
+		this.metrics = launchState.getMetrics();
+		stages.setListener(this::markDirty);
+		this.message = messagePanel.getBarLabel().getText();
+		this.value = messagePanel.getBar().getValue();
+		this.targetValue = value;
+		this.displayedValue = value;
+
+		clock.add(this);
+	}
+
+	/**
+	 * Starts following the reports of the download tracker. Only called once every earlier update has been applied,
+	 * so a download reported in the meantime can not be overwritten by an older stage message.
+	 */
+	void listenToDownloads()
+	{
+		downloads.setListener(this::downloadProgress);
+	}
+
+	void setMessage(final String message, final int value)
+	{
+		this.message = message;
+		this.value = value;
+		this.barText = null;
+		this.downloading = false;
+		markDirty();
+	}
+
+	void setBarText(final String text)
+	{
+		this.barText = text;
+		this.downloading = false;
+		markDirty();
+	}
+
+	void downloadProgress()
+	{
+		if (!downloading)
+		{
+			downloading = true;
+		}
+		markDirty();
+	}
+
+	void stop()
+	{
+		clock.remove(this);
+	}
+
+	private void markDirty()
+	{
+		// Avoid bouncing the cache line between download threads when the flag is already raised, only the thread
+		// raising it has to wake the clock
+		if (!dirty.get() && !dirty.getAndSet(true))
+		{
+			clock.wake();
+		}
+	}
+
+	@Override
+	public long tick(final long now)
+	{
+		metrics.sample(now);
+		// While downloading the rate is sampled every second, even without new reports, so a stall shows as such
+		final boolean rateChanged = downloading && updateRate(now);
+		// Stages without progress reports advance by themselves towards where they ended last time, unless the bar
+		// is computed from the stage tree
+		final boolean staged = stages.hasStages();
+		final int predicted = downloading || staged ? -1 : stageHistory.predictValue(now);
+		final boolean etaChanged = !downloading && updateEta(now);
+		final boolean changed = dirty.getAndSet(false) || rateChanged || etaChanged || predicted != -1;
+		if (changed)
+		{
+			apply(staged, predicted);
+		}
+
+		final boolean indeterminate = downloading && !staged && downloads.getExpectedBytes() <= 0;
+		final ProgressBar bar = messagePanel.getBar();
+		bar.setIndeterminatePosition(indeterminate ? (float) (now % INDETERMINATE_PERIOD) / INDETERMINATE_PERIOD : -1);
+		final boolean easing = ease(now);
+		lastFrame = now;
+
+		if (easing || indeterminate)
+		{
+			return now;
+		}
+		if (downloading)
+		{
+			return lastRateUpdate + RATE_TEXT_INTERVAL;
+		}
+		if (predicted != -1)
+		{
+			return now + PREDICTION_INTERVAL;
+		}
+		return etaText != null ? lastEtaUpdate + RATE_TEXT_INTERVAL : AnimationClock.IDLE;
+	}
+
+	private void apply(final boolean staged, final int predicted)
+	{
+		// The label only revalidates when the stage message actually changes
+		messagePanel.getBarLabel().setText(message);
+
+		if (!downloading && wasDownloading)
+		{
+			wasDownloading = false;
+			rateText = "";
+			lastDownloadText = null;
+		}
+
+		// Neither of these revalidate, they only repaint the parts of the bar which changed
+		if (staged)
+		{
+			targetValue = Math.max(value, (int) Math.round(stages.getFraction() * MessagePanel.BAR_MAXIMUM));
+		}
+		else
+		{
+			targetValue = downloading ? downloadValue() : Math.max(value, predicted);
+		}
+		messagePanel.getBar().setText(barText());
+		metrics.uiUpdateApplied();
+	}
+
+	/**
+	 * Moves the bar a frame closer to its value, jumping straight back when the value went down
+	 * @return true if the bar has not reached its value yet
+	 */
+	private boolean ease(final long now)
+	{
+		if (targetValue < displayedValue)
+		{
+			displayedValue = targetValue;
+		}
+		else if (targetValue > displayedValue)
+		{
+			// Coming out of idle the previous frame is long gone, ease from here as if it was a frame ago
+			final long elapsed = Math.min(now - lastFrame, 2 * AnimationClock.FRAME_INTERVAL);
+			displayedValue += (targetValue - displayedValue) * (1 - Math.exp(-elapsed / EASING_NANOS));
+			if (targetValue - displayedValue < SNAP_DISTANCE)
+			{
+				displayedValue = targetValue;
+			}
+		}
+
+		messagePanel.getBar().setValue((int) displayedValue);
+		return displayedValue != targetValue;
+	}
+
+	private int downloadValue()
+	{
+		long expected = downloads.getExpectedBytes();
+		if (expected <= 0)
+		{
+			return value;
+		}
+
+		long transferred = Math.min(Math.max(downloads.getTransferredBytes(), 0), expected);
+
+		// Since we are using the same progress bar we need to specifying a start and end point for the bar
+		// This gives us a specified amount of the bar to evenly distribute between downloaded files
+		final int start = progressStart;
+		final int range = progressEnd - start;
+		if (range <= 0)
+		{
+			return start;
+		}
+
+		// Drop precision from both sides until the multiplication can no longer overflow
+		while (transferred > Long.MAX_VALUE / range)
+		{
+			transferred >>= 1;
+			expected >>= 1;
+		}
+
+		return start + (int) (transferred * range / expected);
+	}
+
+	private String barText()
+	{
+		final String file = downloading ? downloads.getActiveFile() : null;
+		if (file == null)
+		{
+			final String text = barText;
+			return text != null || downloading ? text : etaText;
+		}
+
+		// Only build the download text when the file being downloaded or the displayed rate changes
+		if (!file.equals(lastDownloadFile) || lastDownloadText == null)
+		{
+			lastDownloadFile = file;
+			lastDownloadText = DOWNLOADING_PREFIX + file + rateText;
+		}
+
+		return lastDownloadText;
+	}
+
+	/**
+	 * Samples the download rate and refreshes the displayed rate text at a fixed, low rate
+	 * @return true if the rate text was changed
+	 */
+	private boolean updateRate(final long now)
+	{
+		final long transferred = downloads.getTransferredBytes();
+		if (!wasDownloading)
+		{
+			wasDownloading = true;
+			rateEstimator.reset();
+			rateEstimator.sample(now, transferred);
+			lastRateUpdate = now;
+			return false;
+		}
+
+		rateEstimator.sample(now, transferred);
+		if (now - lastRateUpdate < RATE_TEXT_INTERVAL)
+		{
+			return false;
+		}
+
+		lastRateUpdate = now;
+		final double rate = rateEstimator.bytesPerSecond();
+		final long remaining = rateEstimator.secondsRemaining(downloads.getExpectedBytes(), transferred);
+		rateText = remaining < 0
+			? String.format(" (%.1f MB/s)", rate / BYTES_PER_MEGABYTE)
+			: String.format(" (%.1f MB/s, %d:%02d left)", rate / BYTES_PER_MEGABYTE, remaining / 60, remaining % 60);
+		lastDownloadText = null;
+		return true;
+	}
+
+	/**
+	 * Refreshes the estimated time remaining of the whole launch at the same low rate as the download rate
+	 * @return true if the estimate text was changed
+	 */
+	private boolean updateEta(final long now)
+	{
+		if (now - lastEtaUpdate < RATE_TEXT_INTERVAL)
+		{
+			return false;
+		}
+
+		lastEtaUpdate = now;
+		final long remaining = stageHistory.secondsRemaining(now);
+		final String text = remaining < 0 ? null : String.format("About %d:%02d remaining", remaining / 60, remaining % 60);
+		if (text == null ? etaText == null : text.equals(etaText))
+		{
+			return false;
+		}
+
+		etaText = text;
+		return true;
+	}
+}
@@ -26,106 +26,282 @@ package net.runelite.splashscreen;
 
 import java.awt.BorderLayout;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.SplashScreen;
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.JButton;
 import javax.swing.JComponent;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
-import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.splashscreen.util.LinkBrowser;
+import net.runelite.splashscreen.util.ResourceLoader;
 import net.runelite.splashscreen.util.SwingUtil;
 
 @Slf4j
-public class RuneLiteSplashScreen extends JFrame
+public class RuneLiteSplashScreen extends JFrame implements Splash
 {
 	static final Dimension FRAME_SIZE = new Dimension(600, 350);
 
 	@Getter
 	private final MessagePanel messagePanel = new MessagePanel();
+	@Getter(AccessLevel.PACKAGE)
+	private final ProgressUpdater progressUpdater;
+	/* Drives every animation of the splash screen, idle while nothing moves */
+	private final AnimationClock animationClock = new AnimationClock();
+	private final LaunchState launchState;
 	private final File logFile;
 
-	@Setter
-	private long fetchBytes;
-	private long processedBytes;
-
-	@Setter
-	private float progressStartingPercent = 0f;
-	@Setter
-	private float progressEndingPercent = 100f;
-
 	public RuneLiteSplashScreen(final File logFile, final String versionText)
 	{
+		this(logFile, versionText, new LaunchState());
+		progressUpdater.listenToDownloads();
+	}
+
+	RuneLiteSplashScreen(final File logFile, final String versionText, final LaunchState launchState)
+	{
+		this.launchState = launchState;
+
+		// Loads every resource in parallel, callers can start this earlier through ResourceLoader.preload()
+		ResourceLoader.preload();
+
+		this.progressUpdater = new ProgressUpdater(messagePanel, launchState, animationClock);
 		this.logFile = logFile;
 		this.setTitle("RuneLite");
 		this.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
 		this.setSize(FRAME_SIZE);
 		this.setLayout(new BorderLayout());
 		this.setUndecorated(true);
-		this.setIconImage(SwingUtil.LOGO);
+		SwingUtil.applyLogo(this);
+
+		// The native splash shown by the JVM, from the SplashScreen-Image manifest entry, is kept on screen until
+		// this frame has painted its first frame on top of it
+		final SplashScreen nativeSplash = getNativeSplashScreen();
+
+		final JPanel panel = new JPanel()
+		{
+			private boolean painted;
 
-		final JPanel panel = new JPanel();
+			@Override
+			public void paint(Graphics g)
+			{
+				super.paint(g);
+
+				if (!painted)
+				{
+					painted = true;
+					launchState.getTimeline().firstPaint();
+
+					if (nativeSplash != null)
+					{
+						// Close once the painted frame has been flushed to the screen
+						SwingUtilities.invokeLater(() -> closeNativeSplashScreen(nativeSplash));
+					}
+				}
+			}
+		};
 		panel.setLayout(new BorderLayout());
 		panel.setPreferredSize(RuneLiteSplashScreen.FRAME_SIZE);
 
-		panel.add(new InfoPanel(versionText), BorderLayout.EAST);
+		panel.add(new InfoPanel(versionText, animationClock), BorderLayout.EAST);
 		panel.add(messagePanel, BorderLayout.WEST);
 
 		this.setContentPane(panel);
 		pack();
+		animationClock.pauseWhenHidden(this);
+
+		if (nativeSplash != null)
+		{
+			// The native splash image is the same size as the frame, open right on top of it
+			final Rectangle bounds = nativeSplash.getBounds();
+			this.setLocation(bounds.x, bounds.y);
+		}
+		else
+		{
+			this.setLocationRelativeTo(null);
+		}
 
-		this.setLocationRelativeTo(null);
 		this.setVisible(true);
 	}
 
+	private static SplashScreen getNativeSplashScreen()
+	{
+		try
+		{
+			final SplashScreen splashScreen = SplashScreen.getSplashScreen();
+			return splashScreen != null && splashScreen.isVisible() ? splashScreen : null;
+		}
+		catch (UnsupportedOperationException e)
+		{
+			// Also thrown as a HeadlessException when there is no display
+			return null;
+		}
+	}
+
+	private static void closeNativeSplashScreen(final SplashScreen splashScreen)
+	{
+		try
+		{
+			if (splashScreen.isVisible())
+			{
+				splashScreen.close();
+			}
+		}
+		catch (IllegalStateException e)
+		{
+			// Already closed
+		}
+	}
+
+	@Override
 	public void setBarText(final String text)
 	{
-		final JProgressBar bar = messagePanel.getBar();
-		bar.setString(text);
-		bar.setStringPainted(text != null);
-		bar.revalidate();
-		bar.repaint();
+		progressUpdater.setBarText(text);
+		launchState.getProgressDispatcher().setBarText(text);
 	}
 
+	/**
+	 * Sets the message displayed above the bar and moves the bar to the specified percentage
+	 * @param msg the message to display
+	 * @param value the percentage of the bar to fill, from 0 to 100
+	 */
+	@Override
 	public void setMessage(final String msg, final int value)
 	{
-		messagePanel.getBarLabel().setText(msg);
-		messagePanel.getBar().setValue(value);
-		setBarText(null);
+		final int barValue = LaunchState.toBarUnits(value);
+		launchState.stageStarted(msg, value, barValue);
+		progressUpdater.setMessage(msg, barValue);
+	}
+
+	@Override
+	public ProgressDispatcher getProgressDispatcher()
+	{
+		return launchState.getProgressDispatcher();
+	}
+
+	/**
+	 * @return the timeline of this launch, written next to the log file when the splash screen is closed
+	 */
+	public StartupTimeline getTimeline()
+	{
+		return launchState.getTimeline();
+	}
+
+	@Override
+	public ProgressStage getStages()
+	{
+		return launchState.getStages();
+	}
+
+	@Override
+	public SplashMetrics getMetrics()
+	{
+		return launchState.getMetrics();
+	}
+
+	@Override
+	public void startEdtWatchdog(final long thresholdMillis)
+	{
+		launchState.startEdtWatchdog(thresholdMillis);
+	}
+
+	/**
+	 * @return the registry used to account for the bytes of every file being downloaded, safe to use from any thread
+	 */
+	@Override
+	public DownloadTracker getDownloads()
+	{
+		return progressUpdater.getDownloads();
+	}
+
+	/**
+	 * Registers a file to be downloaded, see {@link DownloadTracker#register(String, long)}
+	 */
+	public DownloadTracker.Download registerDownload(final String name, final long expectedBytes)
+	{
+		return progressUpdater.getDownloads().register(name, expectedBytes);
+	}
+
+	@Override
+	@Deprecated
+	public void setProgressStartingPercent(final float percent)
+	{
+		progressUpdater.setProgressStart(LaunchState.toBarUnits(percent));
+	}
 
-		this.getContentPane().revalidate();
-		this.getContentPane().repaint();
+	@Override
+	@Deprecated
+	public void setProgressEndingPercent(final float percent)
+	{
+		progressUpdater.setProgressEnd(LaunchState.toBarUnits(percent));
+	}
+
+	/**
+	 * Sets the total amount of bytes to be downloaded through {@link #progress(String, long, long)}.
+	 * Bytes of files registered through {@link #registerDownload(String, long)} are added on top of this.
+	 */
+	@Override
+	public void setFetchBytes(final long fetchBytes)
+	{
+		progressUpdater.getDownloads().setLegacyExpectedBytes(fetchBytes);
 	}
 
 	public void progress(String filename, int bytes, int total)
+	{
+		progress(filename, (long) bytes, (long) total);
+	}
+
+	/**
+	 * Reports download progress for the specified file. This is safe to call from any thread and is cheap enough to be
+	 * called for every downloaded chunk, the bar itself is only updated at a capped frame rate on the EDT.
+	 * @param filename the file currently being downloaded
+	 * @param bytes the amount of bytes of this file downloaded so far
+	 * @param total the size of this file
+	 */
+	@Override
+	public void progress(String filename, long bytes, long total)
 	{
 		if (total == 0)
 		{
 			return;
 		}
 
-		// Since we are using the same progress bar we need to specifying a start and end point for the bar
-		// This gives us a specified amount of the bar to evenly distribute between downloaded files
-		final float progressPercentage = progressEndingPercent - progressStartingPercent;
-		final float percent = ((float) (bytes + processedBytes)) / ((float) fetchBytes) * progressPercentage;
-		final int actualPercent = (int) (percent + progressStartingPercent);
+		progressUpdater.getDownloads().legacyProgress(filename, bytes);
+	}
 
-		final JProgressBar bar = messagePanel.getBar();
-		bar.setValue(actualPercent);
-		setBarText("Downloading " + filename);
+	public void processed(final int processedBytes)
+	{
+		processed((long) processedBytes);
+	}
 
-		this.getContentPane().revalidate();
-		this.getContentPane().repaint();
+	/**
+	 * Marks the file reported through {@link #progress(String, long, long)} as finished
+	 * @param processedBytes the size of the finished file
+	 */
+	@Override
+	public void processed(final long processedBytes)
+	{
+		progressUpdater.getDownloads().legacyProcessed(processedBytes);
 	}
 
-	public void processed(final int processedBytes)
+	/**
+	 * Shows the cached message content, if any, and replaces it once the source has been revalidated in the background
+	 * @param source where the latest content is fetched from
+	 * @return a future completed with the current content once revalidation has finished
+	 */
+	public CompletableFuture<MessageContent> loadMessageContent(final ContentSource source)
 	{
-		this.processedBytes += processedBytes;
+		return new MessageContentProvider(MessageContentProvider.DEFAULT_CACHE_FILE, source)
+			.load(messagePanel::setMessageContent);
 	}
 
+	@Override
 	public void invalidVersion()
 	{
 		invalidVersion(messagePanel);
@@ -145,10 +321,11 @@ public class RuneLiteSplashScreen extends JFrame
 
 		if (result == JOptionPane.YES_OPTION)
 		{
-			LinkBrowser.browse("https://runelite.net");
+			LinkBrowser.browseAsync("https://runelite.net");
 		}
 	}
 
+	@Override
 	public void errorMessage(final String message)
 	{
 		errorMessage(messagePanel, message, logFile);
@@ -170,12 +347,34 @@ public class RuneLiteSplashScreen extends JFrame
 
 		if (result == JOptionPane.YES_OPTION)
 		{
-			LinkBrowser.openLocalFile(logFile);
+			// Launchers usually exit once the error has been shown, keep the viewer open until it is closed
+			LogViewer.open(parent, logFile, true);
 		}
 	}
 
+	/**
+	 * Creates the splash screen on the EDT without waiting for it to be built, see {@link SplashScreenHandle}
+	 * @param logFile the log file offered to the user when an error occurs
+	 * @param versionText the version displayed in the bottom right corner
+	 * @return a handle which can immediately be used to update the splash screen from any thread
+	 */
+	public static SplashScreenHandle open(final File logFile, final String versionText)
+	{
+		return new SplashScreenHandle(logFile, versionText);
+	}
+
+	@Override
 	public void close()
 	{
+		final SplashScreen nativeSplash = getNativeSplashScreen();
+		if (nativeSplash != null)
+		{
+			closeNativeSplashScreen(nativeSplash);
+		}
+
+		progressUpdater.stop();
+		animationClock.stop();
+		launchState.finish(logFile);
 		this.setVisible(false);
 		this.dispose();
 	}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.awt.GraphicsEnvironment;
+import java.io.File;
+
+/**
+ * The launcher facing api of the splash screen, implemented by the swing splash screen and by a console version for
+ * machines without a display. All methods may be called from any thread.
+ */
+public interface Splash
+{
+	/**
+	 * Opens the splash screen suited to the environment: the swing splash screen, built in the background, when there
+	 * is a display and {@link HeadlessSplash} otherwise. The headless check does not initialize AWT.
+	 * @param logFile the log file offered to the user when an error occurs
+	 * @param versionText the version displayed in the bottom right corner
+	 */
+	static Splash open(final File logFile, final String versionText)
+	{
+		if (GraphicsEnvironment.isHeadless())
+		{
+			return new HeadlessSplash(logFile, versionText);
+		}
+
+		return RuneLiteSplashScreen.open(logFile, versionText);
+	}
+
+	/**
+	 * Sets the current stage and moves the bar to the specified percentage. When the bar is computed from
+	 * {@link #getStages()} it shows whichever of the two is further along.
+	 * @param msg the stage message
+	 * @param value the percentage of the bar to fill, from 0 to 100
+	 */
+	void setMessage(String msg, int value);
+
+	void setBarText(String text);
+
+	/**
+	 * @deprecated declare the downloads as weighted stages of {@link #getStages()} instead of carving the bar up by hand
+	 */
+	@Deprecated
+	void setProgressStartingPercent(float percent);
+
+	/**
+	 * @deprecated declare the downloads as weighted stages of {@link #getStages()} instead of carving the bar up by hand
+	 */
+	@Deprecated
+	void setProgressEndingPercent(float percent);
+
+	/**
+	 * The root of the weighted stage tree of this launch. Once a stage has been added to it the bar is computed
+	 * from the tree rather than from the manually set download range, for example:
+	 * <pre>
+	 * ProgressStage download = splash.getStages().addStage("Download", 3);
+	 * ProgressStage verify = splash.getStages().addStage("Verify", 1);
+	 * </pre>
+	 * Every stage can then report its own progress from any thread.
+	 */
+	ProgressStage getStages();
+
+	/**
+	 * @return the dispatcher forwarding the progress of this launch to additional {@link ProgressSink}s
+	 */
+	ProgressDispatcher getProgressDispatcher();
+
+	/**
+	 * @return the registry used to account for the bytes of every file being downloaded
+	 */
+	DownloadTracker getDownloads();
+
+	/**
+	 * @return the download and UI health counters of this launch, also published over JMX
+	 */
+	SplashMetrics getMetrics();
+
+	/**
+	 * Starts a thread which watches the EDT for stalls, logging the stack trace of a stalled EDT and the current
+	 * stage as a warning. Stopped when the splash screen is closed.
+	 * @param thresholdMillis how long the EDT has to be unresponsive for before it is reported
+	 */
+	void startEdtWatchdog(long thresholdMillis);
+
+	/**
+	 * Sets the total amount of bytes to be downloaded through {@link #progress(String, long, long)}
+	 */
+	void setFetchBytes(long fetchBytes);
+
+	/**
+	 * Reports download progress for the specified file, cheap enough to be called for every downloaded chunk
+	 * @param filename the file currently being downloaded
+	 * @param bytes the amount of bytes of this file downloaded so far
+	 * @param total the size of this file
+	 */
+	void progress(String filename, long bytes, long total);
+
+	/**
+	 * Marks the file reported through {@link #progress(String, long, long)} as finished
+	 * @param processedBytes the size of the finished file
+	 */
+	void processed(long processedBytes);
+
+	void errorMessage(String message);
+
+	void invalidVersion();
+
+	void close();
+}
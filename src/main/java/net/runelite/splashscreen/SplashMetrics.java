@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.splashscreen.util.IoExecutor;
+
+/**
+ * Health counters of a launch, available as a {@link MetricsSnapshot} and over JMX.
+ * The hot counters live where they are updated, striped adders in the {@link DownloadTracker} and here, so updating
+ * them never blocks a download thread. The rates are derived from them by {@link #sample(long)}, which is called on
+ * the tick the launch is already displayed on, the frame's {@link AnimationClock} or the headless console printer,
+ * at least once a second while downloading. Snapshots and attributes only read the last sampled rates.
+ */
+@Slf4j
+public class SplashMetrics implements SplashMetricsMXBean
+{
+	static final String OBJECT_NAME = "net.runelite.splashscreen:type=SplashMetrics";
+	private static final long CALL_RATE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private final DownloadTracker downloads;
+	private final StartupTimeline timeline;
+	private final LongAdder uiUpdates = new LongAdder();
+
+	// Guarded by this
+	private final TransferRateEstimator rateEstimator = new TransferRateEstimator();
+	private double currentBytesPerSecond;
+	private double peakBytesPerSecond;
+	private long callRateStart = System.nanoTime();
+	private long callRateStartCalls;
+	private double progressCallsPerSecond;
+
+	private final Object registrationLock = new Object();
+	// Guarded by registrationLock
+	private ObjectName registeredName;
+	private boolean closed;
+
+	SplashMetrics(final DownloadTracker downloads, final StartupTimeline timeline)
+	{
+		this.downloads = downloads;
+		this.timeline = timeline;
+	}
+
+	/**
+	 * Registers this with the platform MBean server on the {@link IoExecutor} threads, as creating the server can take
+	 * a while. Any metrics of a previous launch in the same JVM are replaced. Nothing is registered if
+	 * {@link #unregister()} has already been called by the time the registration runs.
+	 */
+	void register()
+	{
+		IoExecutor.runAsync(() ->
+		{
+			synchronized (registrationLock)
+			{
+				if (closed)
+				{
+					return;
+				}
+
+				try
+				{
+					final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+					final ObjectName name = new ObjectName(OBJECT_NAME);
+					if (server.isRegistered(name))
+					{
+						server.unregisterMBean(name);
+					}
+					server.registerMBean(this, name);
+					registeredName = name;
+				}
+				catch (JMException e)
+				{
+					log.debug("Unable to register the splash screen metrics", e);
+				}
+			}
+		});
+	}
+
+	void unregister()
+	{
+		synchronized (registrationLock)
+		{
+			closed = true;
+			if (registeredName == null)
+			{
+				return;
+			}
+
+			try
+			{
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+			}
+			catch (JMException e)
+			{
+				log.debug("Unable to unregister the splash screen metrics", e);
+			}
+			registeredName = null;
+		}
+	}
+
+	/**
+	 * Counts an update applied to the splash screen components
+	 */
+	void uiUpdateApplied()
+	{
+		uiUpdates.increment();
+	}
+
+	public MetricsSnapshot snapshot()
+	{
+		final long transferred = downloads.getTransferredBytes();
+		final double currentRate;
+		final double peakRate;
+		final double callRate;
+		synchronized (this)
+		{
+			currentRate = currentBytesPerSecond;
+			peakRate = peakBytesPerSecond;
+			callRate = progressCallsPerSecond;
+		}
+
+		return new MetricsSnapshot(downloads.getExpectedBytes(), transferred, downloads.getFileBytes(),
+			currentRate, peakRate, downloads.getProgressCalls(), callRate, uiUpdates.sum(), timeline.getPhaseDurations());
+	}
+
+	/**
+	 * Samples the transfer and progress call rates
+	 * @param now the current {@link System#nanoTime()}
+	 */
+	synchronized void sample(final long now)
+	{
+		rateEstimator.sample(now, downloads.getTransferredBytes());
+		currentBytesPerSecond = rateEstimator.bytesPerSecond();
+		peakBytesPerSecond = Math.max(peakBytesPerSecond, currentBytesPerSecond);
+
+		if (now - callRateStart >= CALL_RATE_INTERVAL)
+		{
+			final long calls = downloads.getProgressCalls();
+			progressCallsPerSecond = (calls - callRateStartCalls) * (double) TimeUnit.SECONDS.toNanos(1) / (now - callRateStart);
+			callRateStart = now;
+			callRateStartCalls = calls;
+		}
+	}
+
+	@Override
+	public long getExpectedBytes()
+	{
+		return downloads.getExpectedBytes();
+	}
+
+	@Override
+	public long getTransferredBytes()
+	{
+		return downloads.getTransferredBytes();
+	}
+
+	@Override
+	public Map<String, Long> getFileBytes()
+	{
+		return downloads.getFileBytes();
+	}
+
+	@Override
+	public synchronized double getCurrentBytesPerSecond()
+	{
+		return currentBytesPerSecond;
+	}
+
+	@Override
+	public synchronized double getPeakBytesPerSecond()
+	{
+		return peakBytesPerSecond;
+	}
+
+	@Override
+	public long getProgressCalls()
+	{
+		return downloads.getProgressCalls();
+	}
+
+	@Override
+	public synchronized double getProgressCallsPerSecond()
+	{
+		return progressCallsPerSecond;
+	}
+
+	@Override
+	public long getUiUpdates()
+	{
+		return uiUpdates.sum();
+	}
+
+	@Override
+	public Map<String, Long> getStageDurationsMillis()
+	{
+		return timeline.getPhaseDurations();
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.splashscreen.util.ResourceLoader;
+
+/**
+ * A handle to a {@link RuneLiteSplashScreen} which is built on the EDT in the background.
+ * It can be used from any thread right away: download progress goes straight into the shared {@link DownloadTracker}
+ * while every other update made before the frame is ready is buffered and applied in order once it has been built.
+ * Updates which block on a frame, such as error messages and closing it, also block while buffered, until they have
+ * been applied, unless they are made on the EDT the frame is being built on.
+ * This lets the launcher start resolving and downloading artifacts while the UI is still being constructed.
+ * If the frame cannot be built the launch is finished right away and every later update is dropped.
+ */
+@Slf4j
+public class SplashScreenHandle implements Splash
+{
+	private final LaunchState launchState = new LaunchState();
+	private final DownloadTracker downloads = launchState.getDownloads();
+	private final CompletableFuture<RuneLiteSplashScreen> frameFuture = new CompletableFuture<>();
+	private final UpdateBuffer<RuneLiteSplashScreen> updates = new UpdateBuffer<>();
+	private final File logFile;
+
+	SplashScreenHandle(final File logFile, final String versionText)
+	{
+		this.logFile = logFile;
+		ResourceLoader.preload();
+		downloads.setListener(this::downloadProgress);
+
+		SwingUtilities.invokeLater(() ->
+		{
+			final RuneLiteSplashScreen splashScreen;
+			try
+			{
+				splashScreen = new RuneLiteSplashScreen(logFile, versionText, launchState);
+			}
+			catch (RuntimeException e)
+			{
+				log.warn("Unable to create the splash screen", e);
+				abandon();
+				frameFuture.completeExceptionally(e);
+				return;
+			}
+
+			updates.replay(splashScreen);
+			// Only now every buffered update has been applied may the frame follow the downloads by itself
+			splashScreen.getProgressUpdater().listenToDownloads();
+			frameFuture.complete(splashScreen);
+		});
+	}
+
+	/**
+	 * @return a future completed on the EDT once the frame has been built and every buffered update applied
+	 */
+	public CompletableFuture<RuneLiteSplashScreen> getFrame()
+	{
+		return frameFuture;
+	}
+
+	/**
+	 * @return the registry used to account for the bytes of every file being downloaded, usable before the frame is built
+	 */
+	@Override
+	public DownloadTracker getDownloads()
+	{
+		return downloads;
+	}
+
+	@Override
+	public ProgressDispatcher getProgressDispatcher()
+	{
+		return launchState.getProgressDispatcher();
+	}
+
+	/**
+	 * @return the root of the stage tree of this launch, usable before the frame is built
+	 */
+	@Override
+	public ProgressStage getStages()
+	{
+		return launchState.getStages();
+	}
+
+	@Override
+	public SplashMetrics getMetrics()
+	{
+		return launchState.getMetrics();
+	}
+
+	/**
+	 * Starts watching the EDT right away, so stalls while the frame is still being built are caught as well
+	 */
+	@Override
+	public void startEdtWatchdog(final long thresholdMillis)
+	{
+		launchState.startEdtWatchdog(thresholdMillis);
+	}
+
+	/**
+	 * @return the timeline of this launch, recorded from the moment this handle was created
+	 */
+	public StartupTimeline getTimeline()
+	{
+		return launchState.getTimeline();
+	}
+
+	@Override
+	public void setMessage(final String msg, final int value)
+	{
+		// Recorded now rather than when the buffered update is applied
+		final int barValue = LaunchState.toBarUnits(value);
+		launchState.stageStarted(msg, value, barValue);
+		dispatch(s -> s.getProgressUpdater().setMessage(msg, barValue));
+	}
+
+	@Override
+	public void setBarText(final String text)
+	{
+		launchState.getProgressDispatcher().setBarText(text);
+		dispatch(s -> s.getProgressUpdater().setBarText(text));
+	}
+
+	@Override
+	@Deprecated
+	public void setProgressStartingPercent(final float percent)
+	{
+		dispatch(s -> s.setProgressStartingPercent(percent));
+	}
+
+	@Override
+	@Deprecated
+	public void setProgressEndingPercent(final float percent)
+	{
+		dispatch(s -> s.setProgressEndingPercent(percent));
+	}
+
+	/**
+	 * See {@link RuneLiteSplashScreen#setFetchBytes(long)}
+	 */
+	@Override
+	public void setFetchBytes(final long fetchBytes)
+	{
+		downloads.setLegacyExpectedBytes(fetchBytes);
+	}
+
+	/**
+	 * See {@link RuneLiteSplashScreen#progress(String, long, long)}
+	 */
+	@Override
+	public void progress(final String filename, final long bytes, final long total)
+	{
+		if (total == 0)
+		{
+			return;
+		}
+
+		downloads.legacyProgress(filename, bytes);
+	}
+
+	/**
+	 * See {@link RuneLiteSplashScreen#processed(long)}
+	 */
+	@Override
+	public void processed(final long processedBytes)
+	{
+		downloads.legacyProcessed(processedBytes);
+	}
+
+	/**
+	 * See {@link RuneLiteSplashScreen#loadMessageContent(ContentSource)}, the cache is read right away rather than
+	 * once the frame has been built
+	 */
+	public CompletableFuture<MessageContent> loadMessageContent(final ContentSource source)
+	{
+		return new MessageContentProvider(MessageContentProvider.DEFAULT_CACHE_FILE, source)
+			.load(html -> dispatch(s -> s.getMessagePanel().setMessageContent(html)));
+	}
+
+	@Override
+	public void errorMessage(final String message)
+	{
+		dispatchAndWait(s -> s.errorMessage(message));
+	}
+
+	@Override
+	public void invalidVersion()
+	{
+		dispatchAndWait(RuneLiteSplashScreen::invalidVersion);
+	}
+
+	@Override
+	public void close()
+	{
+		dispatchAndWait(RuneLiteSplashScreen::close);
+	}
+
+	/**
+	 * Dispatches an update which blocks when applied to the frame, such as a dialog, and waits for it to have been
+	 * applied when it had to be buffered. Callers can rely on it having finished, e.g. to exit right after an error.
+	 */
+	private void dispatchAndWait(final Consumer<RuneLiteSplashScreen> update)
+	{
+		dispatch(update);
+
+		// The EDT can not wait for the frame which it is yet to build itself
+		if (!frameFuture.isDone() && !SwingUtilities.isEventDispatchThread())
+		{
+			// Completed once every buffered update, including this one, has been applied, or when the frame failed
+			frameFuture.handle((s, ex) -> null).join();
+		}
+	}
+
+	private void dispatch(final Consumer<RuneLiteSplashScreen> update)
+	{
+		updates.dispatch(update);
+	}
+
+	/**
+	 * Download listener used until the frame's own progress pipeline takes over. While the frame is being built it
+	 * buffers a single marker so the frame knows downloads were reported after the preceding buffered updates, after
+	 * that it forwards to the frame until the frame has installed its own listener.
+	 */
+	private void downloadProgress()
+	{
+		updates.dispatchCoalesced(s -> s.getProgressUpdater().downloadProgress());
+	}
+
+	/**
+	 * Drops the buffered updates and finishes the launch, as no frame will ever apply them or be closed
+	 */
+	private void abandon()
+	{
+		updates.abandon();
+		launchState.finish(logFile);
+	}
+}
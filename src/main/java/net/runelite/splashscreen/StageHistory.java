@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.splashscreen.util.IoExecutor;
+
+/**
+ * Keeps a small on-disk history of how long each named stage took in recent launches and at which bar value it
+ * ended, and uses it to advance the bar during stages which do not report any progress and to estimate the time
+ * remaining. The history is a tiny binary file which is read in the background and rewritten once on close.
+ */
+@Slf4j
+class StageHistory
+{
+	static final File DEFAULT_FILE = new File(new File(System.getProperty("user.home"), ".runelite"), "splash-stages.dat");
+
+	private static final int MAGIC = 0x53544753;
+	private static final int VERSION = 1;
+	private static final int MAX_STAGES = 64;
+	/* Weight of the latest launch when averaging stage durations */
+	private static final double SMOOTHING = 0.3;
+	/* How far through a stage's portion of the bar the prediction is allowed to go before the stage actually ends */
+	private static final double MAX_PREDICTED = 0.95;
+	/* How long saving waits for the history of previous launches to finish loading */
+	private static final long LOAD_TIMEOUT_MILLIS = 500;
+
+	@AllArgsConstructor
+	private static class Stage
+	{
+		private final String name;
+		private final long durationMillis;
+		private final int endValue;
+	}
+
+	private final File file;
+	/* The stages of previous launches, in the order they ran last time */
+	private final CompletableFuture<Map<String, Stage>> previous;
+
+	// Guarded by this
+	private final List<Stage> current = new ArrayList<>();
+	private String stageName;
+	private long stageStart;
+	private int stageValue;
+
+	StageHistory(final File file)
+	{
+		this.file = file;
+		this.previous = IoExecutor.supplyAsync(this::load);
+	}
+
+	/**
+	 * Ends the current stage and starts a new one. Repeating the current stage is ignored.
+	 * @param name the name of the stage
+	 * @param value the bar value, in bar units, the stage starts at
+	 */
+	synchronized void stageStarted(final String name, final int value)
+	{
+		if (name == null || name.equals(stageName))
+		{
+			return;
+		}
+
+		final long now = System.nanoTime();
+		endStage(now, value);
+		stageName = name;
+		stageStart = now;
+		stageValue = value;
+	}
+
+	/**
+	 * @return the bar value the current stage is predicted to have reached, or -1 if there is no prediction
+	 */
+	synchronized int predictValue(final long now)
+	{
+		final Stage expected = expectedStage();
+		if (expected == null || expected.durationMillis <= 0 || expected.endValue <= stageValue)
+		{
+			return -1;
+		}
+
+		final double elapsed = TimeUnit.NANOSECONDS.toMillis(now - stageStart);
+		final double fraction = Math.min(elapsed / expected.durationMillis, 1) * MAX_PREDICTED;
+		return stageValue + (int) ((expected.endValue - stageValue) * fraction);
+	}
+
+	/**
+	 * @return the estimated amount of seconds until the launch finishes, or -1 if unknown
+	 */
+	synchronized long secondsRemaining(final long now)
+	{
+		final Map<String, Stage> stages = previous.getNow(null);
+		if (stages == null || stageName == null || !stages.containsKey(stageName))
+		{
+			return -1;
+		}
+
+		long remaining = 0;
+		boolean after = false;
+		for (final Stage stage : stages.values())
+		{
+			if (after)
+			{
+				remaining += stage.durationMillis;
+			}
+			else if (stage.name.equals(stageName))
+			{
+				after = true;
+				remaining += Math.max(stage.durationMillis - TimeUnit.NANOSECONDS.toMillis(now - stageStart), 0);
+			}
+		}
+
+		return TimeUnit.MILLISECONDS.toSeconds(remaining + 999);
+	}
+
+	/**
+	 * Ends the current stage and merges the durations of this launch into the history file. If the history of
+	 * previous launches can not be loaded in time the file is left alone rather than replaced without it.
+	 */
+	void save()
+	{
+		final List<Stage> stages;
+		synchronized (this)
+		{
+			endStage(System.nanoTime(), MessagePanel.BAR_MAXIMUM);
+			stageName = null;
+			if (current.isEmpty())
+			{
+				return;
+			}
+
+			stages = new ArrayList<>(current);
+			current.clear();
+		}
+
+		final Map<String, Stage> old;
+		try
+		{
+			old = previous.get(LOAD_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return;
+		}
+		catch (ExecutionException | TimeoutException e)
+		{
+			log.warn("Unable to load the stage history from {} in time, not saving this launch", file, e);
+			return;
+		}
+
+		final Map<String, Stage> merged = new LinkedHashMap<>();
+		for (final Stage stage : stages)
+		{
+			final Stage last = old.get(stage.name);
+			final long duration = last == null
+				? stage.durationMillis
+				: Math.round(last.durationMillis * (1 - SMOOTHING) + stage.durationMillis * SMOOTHING);
+			merged.put(stage.name, new Stage(stage.name, duration, stage.endValue));
+		}
+
+		try
+		{
+			write(merged);
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to save the stage history to {}", file, e);
+		}
+	}
+
+	private void endStage(final long now, final int endValue)
+	{
+		if (stageName != null)
+		{
+			current.add(new Stage(stageName, TimeUnit.NANOSECONDS.toMillis(now - stageStart), endValue));
+		}
+	}
+
+	private Stage expectedStage()
+	{
+		final Map<String, Stage> stages = previous.getNow(null);
+		return stages == null || stageName == null ? null : stages.get(stageName);
+	}
+
+	private Map<String, Stage> load()
+	{
+		final Map<String, Stage> stages = new LinkedHashMap<>();
+		if (!file.isFile())
+		{
+			return stages;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				return stages;
+			}
+
+			final int count = Math.min(in.readInt(), MAX_STAGES);
+			for (int i = 0; i < count; i++)
+			{
+				final Stage stage = new Stage(in.readUTF(), in.readLong(), in.readInt());
+				stages.put(stage.name, stage);
+			}
+		}
+		catch (IOException e)
+		{
+			log.debug("Unable to read the stage history from {}", file, e);
+			stages.clear();
+		}
+
+		return stages;
+	}
+
+	private void write(final Map<String, Stage> stages) throws IOException
+	{
+		final File dir = file.getAbsoluteFile().getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs())
+		{
+			throw new IOException("Unable to create " + dir);
+		}
+
+		// Written to a temporary file first so a crash can never leave a truncated history behind
+		final File tmp = new File(dir, file.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			final int count = Math.min(stages.size(), MAX_STAGES);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(count);
+
+			final Iterator<Stage> it = stages.values().iterator();
+			for (int i = 0; i < count; i++)
+			{
+				final Stage stage = it.next();
+				out.writeUTF(stage.name);
+				out.writeLong(stage.durationMillis);
+				out.writeInt(stage.endValue);
+			}
+		}
+
+		final Path source = tmp.toPath();
+		final Path target = file.toPath();
+		try
+		{
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e)
+		{
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
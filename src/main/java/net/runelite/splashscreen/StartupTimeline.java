@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records a {@link System#nanoTime()} based timeline of a launch: every stage set through
+ * {@link RuneLiteSplashScreen#setMessage(String, int)}, the bytes downloaded during each stage and the time until the
+ * frame was first painted. The timeline is written as JSON and CSV next to the launcher's log file when the splash
+ * screen is closed so the reports can be aggregated across launches.
+ */
+@Slf4j
+public class StartupTimeline
+{
+	static final String JSON_REPORT = "splash-timeline.json";
+	static final String CSV_REPORT = "splash-timeline.csv";
+
+	@AllArgsConstructor
+	private static class Phase
+	{
+		private final String name;
+		private final long start;
+		private final long startBytes;
+	}
+
+	private final DownloadTracker downloads;
+	private final long start = System.nanoTime();
+	private final long startEpochMillis = System.currentTimeMillis();
+	private final long jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+
+	// Guarded by this
+	private final List<Phase> phases = new ArrayList<>();
+	private long firstPaint = -1;
+	private long end = -1;
+
+	StartupTimeline(final DownloadTracker downloads)
+	{
+		this.downloads = downloads;
+	}
+
+	/**
+	 * Records the start of a new stage, ending the previous one. Repeating the current stage or passing a null
+	 * name, which only updates the bar value, is ignored.
+	 */
+	synchronized void phase(final String name)
+	{
+		if (name == null || end != -1 || (!phases.isEmpty() && phases.get(phases.size() - 1).name.equals(name)))
+		{
+			return;
+		}
+
+		phases.add(new Phase(name, System.nanoTime(), downloads.getTransferredBytes()));
+	}
+
+	/**
+	 * @return the name of the current stage, or null if none has started yet
+	 */
+	synchronized String getCurrentPhase()
+	{
+		return phases.isEmpty() ? null : phases.get(phases.size() - 1).name;
+	}
+
+	synchronized void firstPaint()
+	{
+		if (firstPaint == -1)
+		{
+			firstPaint = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Ends the last stage and writes the reports to the directory of the log file
+	 */
+	void finish(final File logFile)
+	{
+		synchronized (this)
+		{
+			if (end != -1)
+			{
+				return;
+			}
+
+			end = System.nanoTime();
+		}
+
+		if (logFile == null || logFile.getAbsoluteFile().getParentFile() == null)
+		{
+			return;
+		}
+
+		final File dir = logFile.getAbsoluteFile().getParentFile();
+		try (Writer json = Files.newBufferedWriter(new File(dir, JSON_REPORT).toPath(), StandardCharsets.UTF_8);
+			Writer csv = Files.newBufferedWriter(new File(dir, CSV_REPORT).toPath(), StandardCharsets.UTF_8))
+		{
+			writeJson(json);
+			writeCsv(csv);
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to write the startup timeline to {}", dir, e);
+		}
+	}
+
+	/**
+	 * @return the time spent in each stage so far in milliseconds, in the order the stages started. The current stage
+	 * is counted up to now and repeated stages are summed.
+	 */
+	public synchronized Map<String, Long> getPhaseDurations()
+	{
+		final long last = end == -1 ? System.nanoTime() : end;
+		final Map<String, Long> durations = new LinkedHashMap<>();
+		for (int i = 0; i < phases.size(); i++)
+		{
+			final Phase phase = phases.get(i);
+			durations.merge(phase.name, TimeUnit.NANOSECONDS.toMillis(phaseEnd(i, last) - phase.start), Long::sum);
+		}
+		return durations;
+	}
+
+	/**
+	 * Writes the timeline as a single JSON object. Times are in milliseconds since the splash screen was created.
+	 */
+	public synchronized void writeJson(final Writer writer) throws IOException
+	{
+		final long last = end == -1 ? System.nanoTime() : end;
+		final BufferedWriter out = new BufferedWriter(writer);
+		out.write("{\"version\":1");
+		out.write(",\"startEpochMs\":" + startEpochMillis);
+		out.write(",\"jvmUptimeAtStartMs\":" + jvmUptimeMillis);
+		out.write(",\"firstPaintMs\":" + (firstPaint == -1 ? "null" : millis(firstPaint)));
+		out.write(",\"totalMs\":" + millis(last));
+		out.write(",\"expectedBytes\":" + downloads.getExpectedBytes());
+		out.write(",\"downloadedBytes\":" + downloads.getTransferredBytes());
+		out.write(",\"phases\":[");
+		for (int i = 0; i < phases.size(); i++)
+		{
+			final Phase phase = phases.get(i);
+			if (i > 0)
+			{
+				out.write(',');
+			}
+
+			out.write("{\"name\":");
+			writeJsonString(out, phase.name);
+			out.write(",\"startMs\":" + millis(phase.start));
+			out.write(",\"durationMs\":" + duration(phase.start, phaseEnd(i, last)));
+			out.write(",\"downloadedBytes\":" + (phaseEndBytes(i) - phase.startBytes));
+			out.write('}');
+		}
+		out.write("]}");
+		out.newLine();
+		out.flush();
+	}
+
+	/**
+	 * Writes one row per stage, plus a row for the first paint, with times in milliseconds
+	 */
+	public synchronized void writeCsv(final Writer writer) throws IOException
+	{
+		final long last = end == -1 ? System.nanoTime() : end;
+		final BufferedWriter out = new BufferedWriter(writer);
+		out.write("event,name,start_ms,duration_ms,downloaded_bytes");
+		out.newLine();
+
+		if (firstPaint != -1)
+		{
+			out.write("first_paint,," + millis(firstPaint) + ",0,0");
+			out.newLine();
+		}
+
+		for (int i = 0; i < phases.size(); i++)
+		{
+			final Phase phase = phases.get(i);
+			out.write("phase,\"" + phase.name.replace("\"", "\"\"") + "\","
+				+ millis(phase.start) + "," + duration(phase.start, phaseEnd(i, last)) + ","
+				+ (phaseEndBytes(i) - phase.startBytes));
+			out.newLine();
+		}
+		out.flush();
+	}
+
+	private long phaseEnd(final int index, final long last)
+	{
+		return index + 1 < phases.size() ? phases.get(index + 1).start : last;
+	}
+
+	private long phaseEndBytes(final int index)
+	{
+		return index + 1 < phases.size() ? phases.get(index + 1).startBytes : downloads.getTransferredBytes();
+	}
+
+	private String millis(final long nanos)
+	{
+		return duration(start, nanos);
+	}
+
+	private static String duration(final long from, final long to)
+	{
+		return String.format(Locale.ROOT, "%.3f", (to - from) / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+	private static void writeJsonString(final Writer out, final String value) throws IOException
+	{
+		out.write('"');
+		for (int i = 0; i < value.length(); i++)
+		{
+			final char c = value.charAt(i);
+			if (c == '"' || c == '\\')
+			{
+				out.write('\\');
+				out.write(c);
+			}
+			else if (c < 0x20)
+			{
+				out.write(String.format("\\u%04x", (int) c));
+			}
+			else
+			{
+				out.write(c);
+			}
+		}
+		out.write('"');
+	}
+}
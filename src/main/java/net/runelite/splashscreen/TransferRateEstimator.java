@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates the download rate over a sliding window of timestamped byte totals.
+ * Samples are stored in fixed size ring buffers so taking a sample never allocates. This class is not thread-safe,
+ * it is meant to be sampled from a single thread at a fixed rate rather than on every reported chunk.
+ */
+class TransferRateEstimator
+{
+	private static final int SAMPLES = 20;
+	private static final long SAMPLE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(250);
+	/* The samples needed before the time remaining is estimated, a second of transfer at the sample interval */
+	private static final int MIN_ESTIMATE_SAMPLES = 5;
+
+	private final long[] times = new long[SAMPLES];
+	private final long[] bytes = new long[SAMPLES];
+	private int head;
+	private int count;
+
+	/**
+	 * Records the total amount of bytes transferred so far. Samples taken less than {@link #SAMPLE_INTERVAL} after
+	 * the previous one are ignored.
+	 * @param now the current {@link System#nanoTime()}
+	 * @param totalBytes the total amount of bytes transferred
+	 */
+	void sample(final long now, final long totalBytes)
+	{
+		if (count > 0 && now - times[head] < SAMPLE_INTERVAL)
+		{
+			return;
+		}
+
+		head = (head + 1) % SAMPLES;
+		times[head] = now;
+		bytes[head] = totalBytes;
+		if (count < SAMPLES)
+		{
+			count++;
+		}
+	}
+
+	/**
+	 * @return the average transfer rate over the sampled window, in bytes per second
+	 */
+	double bytesPerSecond()
+	{
+		if (count < 2)
+		{
+			return 0;
+		}
+
+		final int tail = (head - count + 1 + SAMPLES) % SAMPLES;
+		final long elapsed = times[head] - times[tail];
+		if (elapsed <= 0)
+		{
+			return 0;
+		}
+
+		return (double) (bytes[head] - bytes[tail]) * TimeUnit.SECONDS.toNanos(1) / elapsed;
+	}
+
+	/**
+	 * @param expectedBytes the total amount of bytes expected to be transferred, 0 or less if unknown
+	 * @param transferredBytes the amount of bytes transferred so far
+	 * @return the estimated amount of seconds remaining, or -1 if the total is unknown or already exceeded, or too
+	 * few samples were taken to estimate the rate
+	 */
+	long secondsRemaining(final long expectedBytes, final long transferredBytes)
+	{
+		final long remainingBytes = expectedBytes - transferredBytes;
+		if (expectedBytes <= 0 || remainingBytes < 0 || count < MIN_ESTIMATE_SAMPLES)
+		{
+			return -1;
+		}
+
+		final double rate = bytesPerSecond();
+		if (rate <= 0)
+		{
+			return -1;
+		}
+
+		return (long) Math.ceil(remainingBytes / rate);
+	}
+
+	void reset()
+	{
+		count = 0;
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Buffers updates for a target which is still being built and applies them in order once it has been, see
+ * {@link SplashScreenHandle}. Updates made while the buffered ones are being replayed are buffered behind them, so
+ * every update is applied in the order it was made. Once the target has been published updates are applied directly
+ * on the calling thread.
+ * @param <T> the type of the target
+ */
+class UpdateBuffer<T>
+{
+	// Guarded by pending
+	private final Queue<Consumer<T>> pending = new ArrayDeque<>();
+	private boolean coalescedQueued;
+	private boolean failed;
+	private volatile T target;
+
+	/**
+	 * @return the target once every buffered update has been applied to it, otherwise null
+	 */
+	T getTarget()
+	{
+		return target;
+	}
+
+	/**
+	 * Applies an update to the target, or buffers it until the target has been replayed to
+	 */
+	void dispatch(final Consumer<T> update)
+	{
+		final T current = target;
+		if (current != null)
+		{
+			update.accept(current);
+			return;
+		}
+
+		synchronized (pending)
+		{
+			if (failed)
+			{
+				return;
+			}
+
+			if (target == null)
+			{
+				pending.add(update);
+				coalescedQueued = false;
+				return;
+			}
+		}
+
+		update.accept(target);
+	}
+
+	/**
+	 * Like {@link #dispatch(Consumer)}, but buffers the update only once for every run of coalesced updates made in
+	 * between other updates. Meant for updates which only signal that something changed, such as download progress.
+	 */
+	void dispatchCoalesced(final Consumer<T> update)
+	{
+		synchronized (pending)
+		{
+			if (failed)
+			{
+				return;
+			}
+
+			if (target == null)
+			{
+				if (!coalescedQueued)
+				{
+					pending.add(update);
+					coalescedQueued = true;
+				}
+				return;
+			}
+		}
+
+		update.accept(target);
+	}
+
+	/**
+	 * Applies every buffered update to the target and then publishes it. Updates are applied outside of the lock as
+	 * some of them, such as error messages, block until dismissed.
+	 */
+	void replay(final T target)
+	{
+		while (true)
+		{
+			final Consumer<T> update;
+			synchronized (pending)
+			{
+				update = pending.poll();
+				if (update == null)
+				{
+					this.target = target;
+					return;
+				}
+			}
+
+			update.accept(target);
+		}
+	}
+
+	/**
+	 * Drops the buffered updates and every later one, as there will never be a target to apply them to
+	 */
+	void abandon()
+	{
+		synchronized (pending)
+		{
+			failed = true;
+			pending.clear();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches message content over http, using the ETag of the response as the version so unchanged content is
+ * answered with a 304 and never downloaded again.
+ */
+public class UrlContentSource implements ContentSource
+{
+	private static final int TIMEOUT = (int) TimeUnit.SECONDS.toMillis(5);
+
+	private final URL url;
+
+	public UrlContentSource(final URL url)
+	{
+		this.url = url;
+	}
+
+	@Override
+	public MessageContent fetch(final String knownVersion) throws IOException
+	{
+		final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		try
+		{
+			connection.setConnectTimeout(TIMEOUT);
+			connection.setReadTimeout(TIMEOUT);
+			if (knownVersion != null)
+			{
+				connection.setRequestProperty("If-None-Match", knownVersion);
+			}
+
+			final int code = connection.getResponseCode();
+			if (code == HttpURLConnection.HTTP_NOT_MODIFIED)
+			{
+				return null;
+			}
+
+			if (code != HttpURLConnection.HTTP_OK)
+			{
+				throw new IOException("Unexpected response " + code + " from " + url);
+			}
+
+			try (InputStream in = connection.getInputStream())
+			{
+				final ByteArrayOutputStream out = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[8192];
+				int read;
+				while ((read = in.read(buffer)) != -1)
+				{
+					out.write(buffer, 0, read);
+				}
+
+				return new MessageContent(connection.getHeaderField("ETag"), new String(out.toByteArray(), StandardCharsets.UTF_8));
+			}
+		}
+		finally
+		{
+			connection.disconnect();
+		}
+	}
+}
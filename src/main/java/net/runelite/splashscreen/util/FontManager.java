@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen.util;
+
+import java.awt.Font;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the splash screen's TTF fonts through the {@link ResourceLoader} as soon as this class is referenced and
+ * keeps a cache of every derived font so each face, style and size combination is only created once.
+ */
+@Slf4j
+public class FontManager
+{
+	@RequiredArgsConstructor
+	public enum Face
+	{
+		RUNESCAPE("runescape.ttf"),
+		RUNESCAPE_SMALL("runescape_small.ttf");
+
+		@Getter
+		private final String resource;
+	}
+
+	@Value
+	private static class FontKey
+	{
+		Face face;
+		int style;
+		float size;
+		boolean fallback;
+	}
+
+	private static final Map<Face, CompletableFuture<Font>> BASE_FONTS = new EnumMap<>(Face.class);
+	private static final ConcurrentMap<FontKey, Font> DERIVED_FONTS = new ConcurrentHashMap<>();
+
+	static
+	{
+		for (final Face face : Face.values())
+		{
+			BASE_FONTS.put(face, ResourceLoader.submit(face.getResource(), () -> loadFont(face)));
+		}
+	}
+
+	private static Font loadFont(final Face face)
+	{
+		try (InputStream in = FontManager.class.getResourceAsStream(face.getResource()))
+		{
+			return Font.createFont(Font.TRUETYPE_FONT, in);
+		}
+		catch (Exception e)
+		{
+			log.warn("Error loading font {}", face.getResource(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * @return a future completed with the base font of the face once it has been loaded, or with null if it failed to load
+	 */
+	public static CompletableFuture<Font> getBaseFont(final Face face)
+	{
+		return BASE_FONTS.get(face);
+	}
+
+	/**
+	 * @return true if the face has finished loading, whether or not it loaded successfully
+	 */
+	public static boolean isLoaded(final Face face)
+	{
+		return BASE_FONTS.get(face).isDone();
+	}
+
+	/**
+	 * Returns the shared font for the specified face, style and size without blocking. Until the face has been
+	 * loaded, or if it failed to load, a fallback font of the same style and size is returned instead.
+	 */
+	public static Font getFont(final Face face, final int style, final float size)
+	{
+		final Font base = BASE_FONTS.get(face).getNow(null);
+		if (base == null)
+		{
+			return DERIVED_FONTS.computeIfAbsent(new FontKey(face, style, size, true),
+				k -> new Font(Font.DIALOG, style, Math.round(size)));
+		}
+
+		return DERIVED_FONTS.computeIfAbsent(new FontKey(face, style, size, false), k -> base.deriveFont(style, size));
+	}
+
+	/**
+	 * Sets the font of the component, swapping the fallback font for the real one on the EDT once it has been loaded.
+	 */
+	public static void applyFont(final JComponent component, final Face face, final int style, final float size)
+	{
+		component.setFont(getFont(face, style, size));
+
+		if (!isLoaded(face))
+		{
+			BASE_FONTS.get(face).thenAccept(font ->
+			{
+				if (font != null)
+				{
+					SwingUtilities.invokeLater(() -> component.setFont(getFont(face, style, size)));
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking file reads and network requests on their own small pools of background threads, so a slow disk or
+ * server never holds up the {@link ResourceLoader} threads the fonts and images of the frame are loaded on.
+ * Network requests get a pool of their own, so a slow server never holds up the file reads either.
+ */
+public class IoExecutor
+{
+	private static final int THREADS = 2;
+	private static final int NETWORK_THREADS = 2;
+
+	private static final ExecutorService EXECUTOR = createPool("splash-io-", THREADS);
+	private static final ExecutorService NETWORK_EXECUTOR = createPool("splash-net-", NETWORK_THREADS);
+
+	private static ExecutorService createPool(final String namePrefix, final int threads)
+	{
+		final AtomicInteger threadId = new AtomicInteger();
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), r ->
+		{
+			final Thread thread = new Thread(r, namePrefix + threadId.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		// Work only happens in bursts, let the threads go away in between
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Runs a blocking read on the I/O threads
+	 */
+	public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> task)
+	{
+		return CompletableFuture.supplyAsync(task, EXECUTOR);
+	}
+
+	/**
+	 * Runs a blocking network request on the network threads
+	 */
+	public static <T> CompletableFuture<T> supplyNetworkAsync(final Supplier<T> task)
+	{
+		return CompletableFuture.supplyAsync(task, NETWORK_EXECUTOR);
+	}
+
+	/**
+	 * Runs a blocking write or other task without a result on the I/O threads
+	 */
+	public static CompletableFuture<Void> runAsync(final Runnable task)
+	{
+		return CompletableFuture.runAsync(task, EXECUTOR);
+	}
+}
@@ -26,59 +26,135 @@
 package net.runelite.splashscreen.util;
 
 import java.awt.Desktop;
+import java.awt.SecondaryLoop;
 import java.awt.Toolkit;
 import java.awt.datatransfer.StringSelection;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Utility class used for browser navigation and opening Files
+ * Utility class used for browser navigation and opening Files.
+ * Open attempts run on a small dedicated executor and callers wait at most {@link #TIMEOUT_SECONDS} for them, so
+ * neither a slow {@link Desktop} nor a hanging {@code xdg-open} can ever block the EDT. Every attempt has a thread of
+ * its own, up to {@link #MAX_THREADS}, so a hung attempt does not hold up later ones.
+ * <p>
+ * The failure message box follows the actual outcome of an attempt rather than the timeout, so an attempt which
+ * succeeds after its caller stopped waiting never shows it next to the opened browser.
  */
 @Slf4j
 public class LinkBrowser
 {
-	private static boolean shouldAttemptXdg = System.getProperty("os.name", "generic").toLowerCase().contains("nux");
+	private static final long TIMEOUT_SECONDS = 10;
+	/* How long xdg-open is waited on, it may not exit until the browser it started does */
+	private static final long XDG_TIMEOUT_SECONDS = 5;
+	/* How many attempts may run at once, attempts beyond this while the others hang fail right away */
+	private static final int MAX_THREADS = 4;
+
+	private static final ExecutorService EXECUTOR;
+	private static final ScheduledExecutorService TIMEOUTS =
+		Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "splash-link-browser-timeout"));
+	static
+	{
+		final AtomicInteger threadId = new AtomicInteger();
+		EXECUTOR = new ThreadPoolExecutor(0, MAX_THREADS, 30, TimeUnit.SECONDS, new SynchronousQueue<>(),
+			r -> daemon(r, "splash-link-browser-" + threadId.incrementAndGet()));
+	}
+
+	private static volatile boolean shouldAttemptXdg = true;
+
+	/**
+	 * What the platform supports, checked once on first use as initializing {@link Desktop} can be slow
+	 */
+	private static class Capabilities
+	{
+		private static final boolean DESKTOP_BROWSE = isDesktopSupported(Desktop.Action.BROWSE);
+		private static final boolean DESKTOP_OPEN = isDesktopSupported(Desktop.Action.OPEN);
+		private static final boolean XDG_OPEN = System.getProperty("os.name", "generic").toLowerCase().contains("nux")
+			&& isOnPath("xdg-open");
+	}
+
+	private static Thread daemon(final Runnable runnable, final String name)
+	{
+		final Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
 
 	/**
 	 * Tries to navigate to specified URL in browser. In case operation fails, displays message box with message
-	 * and copies link to clipboard to navigate to.
+	 * and copies link to clipboard to navigate to. This waits until the browser has been opened or the attempt
+	 * timed out, on the EDT while still dispatching events, see {@link #await(CompletableFuture)}.
 	 * @param url url to open
 	 * @return true if operation was successful
 	 */
 	public static boolean browse(final String url)
+	{
+		return await(browseAsync(url));
+	}
+
+	/**
+	 * Tries to navigate to specified URL in browser in the background. In case operation fails or times out,
+	 * displays message box with message and copies link to clipboard to navigate to.
+	 * @param url url to open
+	 * @return a future completed with true if operation was successful, or with false once it timed out
+	 */
+	public static CompletableFuture<Boolean> browseAsync(final String url)
 	{
 		if (url == null || url.length() == 0)
 		{
-			return false;
+			return CompletableFuture.completedFuture(false);
 		}
 
-		if (attemptDesktopBrowse(url))
+		return submit(url, "Unable to open link. Press 'OK' and link will be copied to your clipboard.", url, () ->
 		{
-			log.debug("Opened browser through Desktop#browse to {}", url);
-			return true;
-		}
+			if (attemptDesktopBrowse(url))
+			{
+				log.debug("Opened browser through Desktop#browse to {}", url);
+				return true;
+			}
 
-		if (shouldAttemptXdg && attemptXdgOpen(url))
-		{
-			log.debug("Opened browser through xdg-open to {}", url);
-			return true;
-		}
+			if (attemptXdgOpen(url))
+			{
+				log.debug("Opened browser through xdg-open to {}", url);
+				return true;
+			}
 
-		showMessageBox("Unable to open link. Press 'OK' and link will be copied to your clipboard.", url);
-		return false;
+			return false;
+		});
 	}
 
-	private static boolean attemptXdgOpen(String url)
+	private static boolean attemptXdgOpen(String target)
 	{
+		if (!Capabilities.XDG_OPEN || !shouldAttemptXdg)
+		{
+			return false;
+		}
+
 		try
 		{
-			final Process exec = Runtime.getRuntime().exec(new String[]{"xdg-open", url});
-			exec.waitFor();
+			final Process exec = Runtime.getRuntime().exec(new String[]{"xdg-open", target});
+			if (!exec.waitFor(XDG_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+			{
+				// Still running means it found a handler which has not returned yet, leave it be
+				log.debug("xdg-open {} is still running, assuming it opened", target);
+				return true;
+			}
 
 			final int ret = exec.exitValue();
 			if (ret == 0)
@@ -86,39 +162,33 @@ public class LinkBrowser
 				return true;
 			}
 
-			log.warn("xdg-open {} returned with error code {}", url, ret);
+			log.warn("xdg-open {} returned with error code {}", target, ret);
 			return false;
 		}
 		catch (IOException ex)
 		{
-			// xdg-open not found
+			// xdg-open not executable
 			shouldAttemptXdg = false;
 			return false;
 		}
 		catch (InterruptedException ex)
 		{
-			log.warn("Interrupted while waiting for xdg-open {} to execute", url);
+			log.warn("Interrupted while waiting for xdg-open {} to execute", target);
+			Thread.currentThread().interrupt();
 			return false;
 		}
 	}
 
 	private static boolean attemptDesktopBrowse(String url)
 	{
-		if (!Desktop.isDesktopSupported())
-		{
-			return false;
-		}
-
-		final Desktop desktop = Desktop.getDesktop();
-
-		if (!desktop.isSupported(Desktop.Action.BROWSE))
+		if (!Capabilities.DESKTOP_BROWSE)
 		{
 			return false;
 		}
 
 		try
 		{
-			desktop.browse(new URI(url));
+			Desktop.getDesktop().browse(new URI(url));
 			return true;
 		}
 		catch (IOException | URISyntaxException ex)
@@ -130,53 +200,160 @@ public class LinkBrowser
 
 	/**
 	 * Tries to open the specified {@code File} with the systems default text editor. If operation fails
-	 * an error message is displayed with the option to copy the absolute file path to clipboard.
+	 * an error message is displayed with the option to copy the absolute file path to clipboard. This waits until
+	 * the file has been opened or the attempt timed out, on the EDT while still dispatching events.
 	 * @param file the File instance of the log file
 	 * @return did the file open successfully?
 	 */
 	public static boolean openLocalFile(final File file)
+	{
+		return await(openLocalFileAsync(file));
+	}
+
+	/**
+	 * Tries to open the specified {@code File} with the systems default text editor in the background. If operation
+	 * fails or times out an error message is displayed with the option to copy the absolute file path to clipboard.
+	 * @param file the File instance of the log file
+	 * @return a future completed with whether the file opened successfully, or with false once it timed out
+	 */
+	public static CompletableFuture<Boolean> openLocalFileAsync(final File file)
 	{
 		if (file == null || !file.exists())
 		{
-			return false;
+			return CompletableFuture.completedFuture(false);
 		}
 
-		if (attemptOpenLocalFile(file))
+		return submit(file.getPath(), "Unable to open log file. Press 'OK' and the file path will be copied to your clipboard",
+			file.getAbsolutePath(), () ->
 		{
-			log.debug("Opened log file through Desktop#edit to {}", file);
-			return true;
-		}
+			if (attemptOpenLocalFile(file))
+			{
+				log.debug("Opened log file through Desktop#edit to {}", file);
+				return true;
+			}
 
-		showMessageBox("Unable to open log file. Press 'OK' and the file path will be copied to your clipboard", file.getAbsolutePath());
-		return false;
+			if (attemptXdgOpen(file.getAbsolutePath()))
+			{
+				log.debug("Opened log file through xdg-open to {}", file);
+				return true;
+			}
+
+			return false;
+		});
 	}
 
 	private static boolean attemptOpenLocalFile(final File file)
 	{
-		if (!Desktop.isDesktopSupported())
+		if (!Capabilities.DESKTOP_OPEN)
 		{
 			return false;
 		}
 
-		final Desktop desktop = Desktop.getDesktop();
+		try
+		{
+			Desktop.getDesktop().open(file);
+			return true;
+		}
+		catch (IOException ex)
+		{
+			log.warn("Failed to open Desktop#edit {}", file, ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Runs an open attempt on the executor and shows the message box if it fails
+	 * @return a future completed with the outcome of the attempt, or with false if it has not finished within the
+	 * timeout, in which case the attempt is left to finish by itself
+	 */
+	private static CompletableFuture<Boolean> submit(final String target, final String failureMessage, final String data,
+		final Supplier<Boolean> attempt)
+	{
+		CompletableFuture<Boolean> opened;
+		try
+		{
+			opened = CompletableFuture.supplyAsync(attempt, EXECUTOR);
+		}
+		catch (RejectedExecutionException e)
+		{
+			log.warn("Too many attempts to open a link are still running, not opening {}", target);
+			opened = CompletableFuture.completedFuture(false);
+		}
 
-		if (!desktop.isSupported(Desktop.Action.OPEN))
+		opened = opened.exceptionally(ex ->
 		{
+			log.warn("Failed to open {}", target, ex);
 			return false;
+		});
+		opened.thenAccept(success ->
+		{
+			if (!success)
+			{
+				showMessageBox(failureMessage, data);
+			}
+		});
+
+		final CompletableFuture<Boolean> result = new CompletableFuture<>();
+		opened.thenAccept(result::complete);
+		final ScheduledFuture<?> timeout = TIMEOUTS.schedule(() ->
+		{
+			if (result.complete(false))
+			{
+				log.warn("Timed out opening {}, it may still open later", target);
+			}
+		}, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		result.whenComplete((success, ex) -> timeout.cancel(false));
+		return result;
+	}
+
+	/**
+	 * Waits for an attempt to finish. On the EDT events keep being dispatched while waiting, through a
+	 * {@link SecondaryLoop} like a modal dialog does, so the UI never freezes.
+	 */
+	private static boolean await(final CompletableFuture<Boolean> result)
+	{
+		if (SwingUtilities.isEventDispatchThread() && !result.isDone())
+		{
+			final SecondaryLoop loop = Toolkit.getDefaultToolkit().getSystemEventQueue().createSecondaryLoop();
+			result.whenComplete((success, ex) -> loop.exit());
+			loop.enter();
 		}
 
+		return result.join();
+	}
+
+	private static boolean isDesktopSupported(final Desktop.Action action)
+	{
 		try
 		{
-			desktop.open(file);
-			return true;
+			return Desktop.isDesktopSupported() && Desktop.getDesktop().isSupported(action);
 		}
-		catch (IOException ex)
+		catch (UnsupportedOperationException ex)
 		{
-			log.warn("Failed to open Desktop#edit {}", file, ex);
+			// Thrown as a HeadlessException when there is no display
 			return false;
 		}
 	}
 
+	private static boolean isOnPath(final String executable)
+	{
+		final String path = System.getenv("PATH");
+		if (path == null)
+		{
+			return false;
+		}
+
+		for (final String dir : path.split(File.pathSeparator))
+		{
+			if (new File(dir, executable).canExecute())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Open swing message box with specified message and copy data to clipboard
 	 * @param message message to show
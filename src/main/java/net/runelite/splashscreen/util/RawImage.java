@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads and writes images stored as raw, pre-decoded {@code INT_ARGB} pixels.
+ * The format is a magic number, the width and the height followed by every pixel, all as big-endian ints.
+ * Reading one is a single bulk read straight into the raster of a {@link BufferedImage} without going through
+ * {@link ImageIO}.
+ * <p>
+ * The {@link #main(String[])} method is run during the build to generate these assets from the PNG resources.
+ */
+@Slf4j
+public class RawImage
+{
+	static final String EXTENSION = ".argb";
+	private static final int MAGIC = 0x41524742;
+
+	/**
+	 * @param name the name of the source image resource, e.g. {@code runelite.png}
+	 * @return the resource name of the pre-decoded asset at the image's original size
+	 */
+	static String assetName(final String name)
+	{
+		return baseName(name) + EXTENSION;
+	}
+
+	/**
+	 * @param name the name of the source image resource, e.g. {@code runelite.png}
+	 * @return the resource name of the pre-decoded asset scaled to the specified size
+	 */
+	static String assetName(final String name, final int width, final int height)
+	{
+		return baseName(name) + "_" + width + "x" + height + EXTENSION;
+	}
+
+	private static String baseName(final String name)
+	{
+		final int dot = name.lastIndexOf('.');
+		return dot == -1 ? name : name.substring(0, dot);
+	}
+
+	static BufferedImage read(final InputStream stream) throws IOException
+	{
+		final DataInputStream in = new DataInputStream(stream);
+		if (in.readInt() != MAGIC)
+		{
+			throw new IOException("Not a raw image");
+		}
+
+		final int width = in.readInt();
+		final int height = in.readInt();
+		final byte[] data = new byte[width * height * 4];
+		in.readFully(data);
+
+		final int[] pixels = new int[width * height];
+		ByteBuffer.wrap(data).asIntBuffer().get(pixels);
+
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		// setDataElements keeps the image eligible for acceleration, unlike writing to the DataBuffer directly
+		image.getRaster().setDataElements(0, 0, width, height, pixels);
+		return image;
+	}
+
+	static void write(final BufferedImage image, final OutputStream stream) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+		final DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(MAGIC);
+		out.writeInt(width);
+		out.writeInt(height);
+		for (final int pixel : pixels)
+		{
+			out.writeInt(pixel);
+		}
+		out.flush();
+	}
+
+	/**
+	 * High quality downscale by repeatedly halving the image with bilinear filtering, then scaling to the exact size
+	 */
+	static BufferedImage scale(BufferedImage image, final int width, final int height)
+	{
+		while (image.getWidth() / 2 >= width && image.getHeight() / 2 >= height)
+		{
+			image = resize(image, image.getWidth() / 2, image.getHeight() / 2);
+		}
+
+		if (image.getWidth() == width && image.getHeight() == height && image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return image;
+		}
+
+		return resize(image, width, height);
+	}
+
+	private static BufferedImage resize(final BufferedImage image, final int width, final int height)
+	{
+		final BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		final Graphics2D g = scaled.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+		g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g.drawImage(image, 0, 0, width, height, null);
+		g.dispose();
+		return scaled;
+	}
+
+	/**
+	 * Generates the raw image assets.
+	 * Usage: {@code RawImage <resource directory> <image>[:<width>x<height>[,<width>x<height>...]]...}
+	 * Every image is written at its original size plus every listed size which does not require upscaling it.
+	 */
+	public static void main(final String[] args) throws IOException
+	{
+		final File dir = new File(args[0]);
+		for (int i = 1; i < args.length; i++)
+		{
+			final String[] spec = args[i].split(":");
+			final String name = spec[0];
+			final BufferedImage source = ImageIO.read(new File(dir, name));
+			if (source == null)
+			{
+				throw new IOException("Unable to decode " + name);
+			}
+
+			writeAsset(source, new File(dir, assetName(name)));
+
+			if (spec.length < 2)
+			{
+				continue;
+			}
+
+			for (final String size : spec[1].split(","))
+			{
+				final String[] dimensions = size.split("x");
+				final int width = Integer.parseInt(dimensions[0]);
+				final int height = Integer.parseInt(dimensions[1]);
+
+				if (width == source.getWidth() && height == source.getHeight())
+				{
+					// Already written at its original size
+					continue;
+				}
+
+				if (width > source.getWidth() || height > source.getHeight())
+				{
+					// Upscaled assets would be no sharper than scaling at runtime
+					log.warn("Skipping {} at {}, source is only {}x{}", name, size, source.getWidth(), source.getHeight());
+					continue;
+				}
+
+				writeAsset(scale(source, width, height), new File(dir, assetName(name, width, height)));
+			}
+		}
+	}
+
+	private static void writeAsset(final BufferedImage image, final File file) throws IOException
+	{
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file)))
+		{
+			write(image, out);
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.splashscreen.RuneLiteSplashScreen;
+
+/**
+ * Loads the splash screen's fonts and images concurrently on a small pool of background threads.
+ * Every resource is loaded at most once and shared through a {@link CompletableFuture}, and the time each one took
+ * to load is recorded. Call {@link #preload()} as early as possible, ideally first thing in {@code main()}, so the
+ * resources are ready by the time the frame is built.
+ */
+@Slf4j
+public class ResourceLoader
+{
+	/* The logo used as the frame and dialog icon */
+	public static final String LOGO = "runelite.png";
+	/* The logo displayed in the info panel, and its size */
+	public static final String TRANSPARENT_LOGO = "runelite_transparent.png";
+	public static final int TRANSPARENT_LOGO_SIZE = 128;
+
+	static final ExecutorService EXECUTOR;
+	static
+	{
+		final AtomicInteger threadId = new AtomicInteger();
+		final int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), r ->
+		{
+			final Thread thread = new Thread(r, "splash-resource-loader-" + threadId.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		// Nothing is loaded after startup, let the threads go away once the resources are loaded
+		executor.allowCoreThreadTimeOut(true);
+		EXECUTOR = executor;
+	}
+
+	private static final ConcurrentMap<String, CompletableFuture<?>> RESOURCES = new ConcurrentHashMap<>();
+	private static final Map<String, Long> LOAD_TIMES = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	/**
+	 * Starts loading every resource the splash screen needs, without blocking
+	 * @return a future completed once every resource has been loaded
+	 */
+	public static CompletableFuture<Void> preload()
+	{
+		return CompletableFuture.allOf(
+			FontManager.getBaseFont(FontManager.Face.RUNESCAPE),
+			FontManager.getBaseFont(FontManager.Face.RUNESCAPE_SMALL),
+			getImage(LOGO),
+			getIcon(TRANSPARENT_LOGO, TRANSPARENT_LOGO_SIZE, TRANSPARENT_LOGO_SIZE)
+		);
+	}
+
+	/**
+	 * @return how long each resource loaded so far took to load, in milliseconds, in the order they finished
+	 */
+	public static Map<String, Long> getLoadTimes()
+	{
+		synchronized (LOAD_TIMES)
+		{
+			return new LinkedHashMap<>(LOAD_TIMES);
+		}
+	}
+
+	/**
+	 * @return a future of the image, loaded in the background once. Completed with null if it could not be loaded
+	 */
+	public static CompletableFuture<BufferedImage> getImage(final String name)
+	{
+		return submit(name, () -> loadImage(name));
+	}
+
+	/**
+	 * @return a future of the icon, see {@link #loadIcon(String, int, int)}
+	 */
+	public static CompletableFuture<Icon> getIcon(final String name, final int width, final int height)
+	{
+		return submit(name + "@" + width + "x" + height, () -> loadIcon(name, width, height));
+	}
+
+	/**
+	 * Runs a task on the loader threads without caching its result, for files which may change between calls
+	 */
+	public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> task)
+	{
+		return CompletableFuture.supplyAsync(task, EXECUTOR);
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> CompletableFuture<T> submit(final String key, final Supplier<T> loader)
+	{
+		return (CompletableFuture<T>) RESOURCES.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() ->
+		{
+			final long start = System.nanoTime();
+			try
+			{
+				return loader.get();
+			}
+			finally
+			{
+				final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+				LOAD_TIMES.put(key, elapsed);
+				log.debug("Loaded {} in {}ms on {}", key, elapsed, Thread.currentThread().getName());
+			}
+		}, EXECUTOR));
+	}
+
+	/**
+	 * Loads an image resource, preferring the pre-decoded raw asset generated during the build over decoding the
+	 * image through {@link ImageIO}
+	 * @param name the name of the image resource
+	 * @return the image, or null if it could not be loaded
+	 */
+	static BufferedImage loadImage(final String name)
+	{
+		final BufferedImage raw = loadRawImage(RawImage.assetName(name));
+		if (raw != null)
+		{
+			return raw;
+		}
+
+		final InputStream in = RuneLiteSplashScreen.class.getResourceAsStream(name);
+		if (in == null)
+		{
+			log.warn("Missing image resource {}", name);
+			return null;
+		}
+
+		// Decode through an in-memory cache rather than ImageIO's temporary files, no global lock is needed
+		try (MemoryCacheImageInputStream stream = new MemoryCacheImageInputStream(in))
+		{
+			return ImageIO.read(stream);
+		}
+		catch (IOException e)
+		{
+			log.warn("Error loading image {}", name, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Loads an image resource at the exact size it will be displayed at, preferring the pre-scaled raw asset
+	 * generated during the build and otherwise scaling the image once with high quality filtering
+	 * @param name the name of the image resource
+	 * @param width the width to display the image at
+	 * @param height the height to display the image at
+	 * @return the image, or null if it could not be loaded
+	 */
+	static BufferedImage loadImage(final String name, final int width, final int height)
+	{
+		final BufferedImage raw = loadRawImage(RawImage.assetName(name, width, height));
+		if (raw != null)
+		{
+			return raw;
+		}
+
+		final BufferedImage image = loadImage(name);
+		if (image == null || (image.getWidth() == width && image.getHeight() == height))
+		{
+			return image;
+		}
+
+		return RawImage.scale(image, width, height);
+	}
+
+	/**
+	 * Creates an icon of an image resource at the specified size, see {@link #loadImage(String, int, int)}
+	 * @return the icon, or null if the image could not be loaded
+	 */
+	static Icon loadIcon(final String name, final int width, final int height)
+	{
+		final BufferedImage image = loadImage(name, width, height);
+		return image == null ? null : new ImageIcon(image);
+	}
+
+	private static BufferedImage loadRawImage(final String assetName)
+	{
+		final InputStream in = RuneLiteSplashScreen.class.getResourceAsStream(assetName);
+		if (in == null)
+		{
+			return null;
+		}
+
+		try (InputStream stream = in)
+		{
+			return RawImage.read(stream);
+		}
+		catch (IOException e)
+		{
+			log.warn("Error loading image asset {}", assetName, e);
+			return null;
+		}
+	}
+}
@@ -29,25 +29,31 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
 import java.awt.Frame;
+import java.awt.Window;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.ButtonModel;
+import javax.swing.Icon;
 import javax.swing.JButton;
 import javax.swing.JComponent;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.MatteBorder;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.splashscreen.RuneLiteSplashScreen;
 
+/**
+ * Shared styling and helpers of the splash screen. The {@code LOGO}, {@code RUNESCAPE_FONT} and
+ * {@code RUNESCAPE_FONT_SMALL} fields are inherited from {@link SwingUtilResources}, so initializing this class never
+ * waits on a resource.
+ */
 @Slf4j
-public class SwingUtil
+public class SwingUtil implements SwingUtilResources
 {
 	/* The orange color used for the branding's accents */
 	public static final Color BRAND_ORANGE = new Color(220, 138, 0);
@@ -65,41 +71,83 @@ public class SwingUtil
 		new EmptyBorder(4, 16, 4, 16)
 	);
 
-	public static final BufferedImage LOGO = SwingUtil.loadImage("runelite.png");
+	/**
+	 * @return a future of the logo, completed with null if it could not be loaded
+	 */
+	public static CompletableFuture<BufferedImage> getLogo()
+	{
+		return ResourceLoader.getImage(ResourceLoader.LOGO);
+	}
+
+	/**
+	 * @return a future of the font {@link #RUNESCAPE_FONT} is set to, completed with null if it could not be loaded
+	 */
+	public static CompletableFuture<Font> getRunescapeFont()
+	{
+		return getFont(FontManager.Face.RUNESCAPE);
+	}
+
+	/**
+	 * @return a future of the font {@link #RUNESCAPE_FONT_SMALL} is set to, completed with null if it could not be loaded
+	 */
+	public static CompletableFuture<Font> getRunescapeSmallFont()
+	{
+		return getFont(FontManager.Face.RUNESCAPE_SMALL);
+	}
 
-	public static Font RUNESCAPE_FONT;
-	public static Font RUNESCAPE_FONT_SMALL;
-	static
+	private static CompletableFuture<Font> getFont(final FontManager.Face face)
 	{
-		try
+		return FontManager.getBaseFont(face).thenApply(font -> font == null ? null : FontManager.getFont(face, Font.PLAIN, 16));
+	}
+
+	/**
+	 * Sets the logo as the icon of the window without blocking, once it has been loaded
+	 */
+	public static void applyLogo(final Window window)
+	{
+		final CompletableFuture<BufferedImage> logo = getLogo();
+		if (logo.isDone())
 		{
-			RUNESCAPE_FONT = Font.createFont(Font.TRUETYPE_FONT,
-				SwingUtil.class.getResourceAsStream("runescape.ttf"))
-				.deriveFont(Font.PLAIN, 16);
-			RUNESCAPE_FONT_SMALL = Font.createFont(Font.TRUETYPE_FONT,
-				SwingUtil.class.getResourceAsStream("runescape_small.ttf"))
-				.deriveFont(Font.PLAIN, 16);
+			window.setIconImage(logo.join());
+			return;
 		}
-		catch (Exception e)
+
+		logo.thenAccept(image ->
 		{
-			log.warn("Error loading fonts", e);
-		}
+			if (image != null)
+			{
+				SwingUtilities.invokeLater(() -> window.setIconImage(image));
+			}
+		});
 	}
 
+	/**
+	 * Loads an image resource, preferring the pre-decoded raw asset generated during the build.
+	 * Shares the result with {@link ResourceLoader} so an image which was preloaded is not loaded again.
+	 * @param name the name of the image resource
+	 * @return the image, or null if it could not be loaded
+	 */
 	public static BufferedImage loadImage(final String name)
 	{
-		try
-		{
-			synchronized (ImageIO.class)
-			{
-				return ImageIO.read(RuneLiteSplashScreen.class.getResourceAsStream(name));
-			}
-		}
-		catch (IOException e)
-		{
-			log.warn("Error loading logo", e);
-			return null;
-		}
+		return ResourceLoader.getImage(name).join();
+	}
+
+	/**
+	 * Loads an image resource at the exact size it will be displayed at, see {@link ResourceLoader#loadImage(String, int, int)}
+	 */
+	public static BufferedImage loadImage(final String name, final int width, final int height)
+	{
+		return ResourceLoader.loadImage(name, width, height);
+	}
+
+	/**
+	 * Creates an icon of an image resource at the specified size.
+	 * Shares the result with {@link ResourceLoader} so an icon which was preloaded is not loaded again.
+	 * @return the icon, or null if the image could not be loaded
+	 */
+	public static Icon loadIcon(final String name, final int width, final int height)
+	{
+		return ResourceLoader.getIcon(name, width, height).join();
 	}
 
 	/**
@@ -114,7 +162,7 @@ public class SwingUtil
 		final JButton button = new JButton(text);
 		button.setForeground(Color.WHITE);
 		button.setBackground(Color.BLACK);
-		button.setFont(SwingUtil.RUNESCAPE_FONT);
+		FontManager.applyFont(button, FontManager.Face.RUNESCAPE, Font.PLAIN, 16);
 		button.setBorder(BUTTON_BORDER);
 
 		button.setBorderPainted(false);
@@ -163,7 +211,7 @@ public class SwingUtil
 	public static int showRuneLiteOptionPane(final JComponent component, final String content, final int optionType, final JButton[] buttons)
 	{
 		final JLabel contentLabel = new JLabel(content);
-		contentLabel.setFont(RUNESCAPE_FONT);
+		FontManager.applyFont(contentLabel, FontManager.Face.RUNESCAPE, Font.PLAIN, 16);
 		contentLabel.setForeground(Color.WHITE);
 		contentLabel.setBackground(DARKER_GRAY_COLOR);
 
@@ -189,7 +237,7 @@ public class SwingUtil
 		dialog.setAlwaysOnTop(true);
 		dialog.setAutoRequestFocus(true);
 		dialog.setLocationRelativeTo(null);
-		dialog.setIconImage(LOGO);
+		applyLogo(dialog);
 
 		// Listen for value changes and close dialog when necessary
 		pane.addPropertyChangeListener(e -> {
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HeadlessSplashTest
+{
+	private static final String[] FORBIDDEN_PACKAGES = {"java.awt.image.", "javax.imageio.", "javax.swing."};
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Runs a headless launch in a fresh JVM, as the test JVM itself may already have loaded AWT
+	 */
+	@Test
+	public void testHeadlessStartupLoadsNoImagingOrSwing() throws Exception
+	{
+		final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		final Process process = new ProcessBuilder(java, "-verbose:class", "-Djava.awt.headless=true",
+			"-Duser.home=" + folder.getRoot().getAbsolutePath(),
+			"-cp", System.getProperty("java.class.path"), HeadlessSplashTest.class.getName(),
+			folder.newFile("launcher.log").getAbsolutePath())
+			.redirectErrorStream(true)
+			.start();
+
+		final List<String> loaded = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				for (final String pkg : FORBIDDEN_PACKAGES)
+				{
+					// Both the java 8 "[Loaded x from y]" and the unified logging "[class,load] x source: y" formats
+					if ((line.startsWith("[Loaded ") || line.contains("[class,load]")) && line.contains(" " + pkg))
+					{
+						loaded.add(line);
+					}
+				}
+			}
+		}
+
+		assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+		assertEquals(0, process.exitValue());
+		assertEquals("classes loaded by a headless launch", new ArrayList<>(), loaded);
+	}
+
+	/**
+	 * A short headless launch, run by {@link #testHeadlessStartupLoadsNoImagingOrSwing()}
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException
+	{
+		final File logFile = new File(args[0]);
+		final HeadlessSplash splash = new HeadlessSplash(logFile, "1.0", System.out);
+		splash.setMessage("Downloading", 10);
+		splash.getDownloads().register("client.jar", 1024).report(512);
+		splash.getStages().addStage("Starting", 1).complete();
+		splash.errorMessage("Unable to <b>start</b>");
+		// Let the metrics registration and the stage history load run
+		Thread.sleep(500);
+		splash.close();
+		if (!Files.exists(new File(logFile.getParentFile(), StartupTimeline.JSON_REPORT).toPath()))
+		{
+			throw new IOException("The timeline was not written");
+		}
+		System.exit(0);
+	}
+}
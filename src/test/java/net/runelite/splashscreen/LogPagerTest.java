@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LogPagerTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testPagesOfAPlainFile() throws IOException
+	{
+		final LogPager pager = new LogPager(write("launcher.log", lines(25, "\n")), 10);
+		assertPage(pager.read(0), 0, 9, false);
+		assertPage(pager.read(1), 10, 19, false);
+		assertPage(pager.read(2), 20, 24, true);
+		assertPage(pager.read(0), 0, 9, false);
+	}
+
+	@Test
+	public void testCompressedPagesMatchThePlainFile() throws IOException
+	{
+		final String content = lines(95, "\r\n");
+		final LogPager plain = new LogPager(write("launcher.log", content), 10);
+		final LogPager compressed = new LogPager(writeCompressed("launcher.log.gz", content), 10);
+
+		// Forward, back past the kept pages and forward again
+		for (final int index : new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 1, 0, 5, 9})
+		{
+			final LogPager.Page expected = plain.read(index);
+			final LogPager.Page page = compressed.read(index);
+			assertEquals(expected.getLines(), page.getLines());
+			assertEquals(expected.isLast(), page.isLast());
+		}
+		compressed.close();
+	}
+
+	@Test
+	public void testAFullLastPageIsTheLast() throws IOException
+	{
+		final LogPager pager = new LogPager(write("launcher.log", lines(20, "\n")), 10);
+		assertPage(pager.read(0), 0, 9, false);
+		assertPage(pager.read(1), 10, 19, true);
+	}
+
+	@Test
+	public void testLastLineWithoutNewline() throws IOException
+	{
+		final LogPager pager = new LogPager(write("launcher.log", "a\nb\nc"), 2);
+		pager.read(0);
+		final LogPager.Page page = pager.read(1);
+		assertEquals(Collections.singletonList("c"), page.getLines());
+		assertTrue(page.isLast());
+	}
+
+	@Test
+	public void testEmptyFile() throws IOException
+	{
+		final LogPager.Page page = new LogPager(write("launcher.log", ""), 10).read(0);
+		assertEquals(Collections.emptyList(), page.getLines());
+		assertTrue(page.isLast());
+
+		final LogPager.Page compressed = new LogPager(writeCompressed("launcher.log.gz", ""), 10).read(0);
+		assertEquals(Collections.emptyList(), compressed.getLines());
+		assertTrue(compressed.isLast());
+	}
+
+	@Test
+	public void testLongLinesAreCutOff() throws IOException
+	{
+		final char[] line = new char[20 * 1024];
+		Arrays.fill(line, 'a');
+		final LogPager.Page page = new LogPager(write("launcher.log", new String(line) + "\nnext\n"), 10).read(0);
+		assertEquals(16 * 1024, page.getLines().get(0).length());
+		assertEquals("next", page.getLines().get(1));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testPagesMustBeReachedInOrder() throws IOException
+	{
+		new LogPager(write("launcher.log", lines(25, "\n")), 10).read(1);
+	}
+
+	@Test(expected = IOException.class)
+	public void testClosedPagerCanNotBeRead() throws IOException
+	{
+		final LogPager pager = new LogPager(writeCompressed("launcher.log.gz", lines(25, "\n")), 10);
+		assertFalse(pager.read(0).isLast());
+		pager.close();
+		pager.read(1);
+	}
+
+	private static void assertPage(final LogPager.Page page, final int first, final int last, final boolean isLast)
+	{
+		final String[] expected = new String[last - first + 1];
+		for (int i = first; i <= last; i++)
+		{
+			expected[i - first] = "line " + i;
+		}
+		assertEquals(Arrays.asList(expected), page.getLines());
+		assertEquals(isLast, page.isLast());
+	}
+
+	private static String lines(final int count, final String separator)
+	{
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < count; i++)
+		{
+			builder.append("line ").append(i).append(separator);
+		}
+		return builder.toString();
+	}
+
+	private Path write(final String name, final String content) throws IOException
+	{
+		final Path file = folder.getRoot().toPath().resolve(name);
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private Path writeCompressed(final String name, final String content) throws IOException
+	{
+		final Path file = folder.getRoot().toPath().resolve(name);
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file)))
+		{
+			out.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+		return file;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LogTailTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path file;
+
+	@Before
+	public void before() throws IOException
+	{
+		file = folder.newFile("launcher.log").toPath();
+	}
+
+	@Test
+	public void testPartialLinesWaitForTheirNewline() throws IOException
+	{
+		final LogTail tail = new LogTail(file, 10);
+		append("first\nsec");
+		LogTail.Update update = tail.poll();
+		assertFalse(update.isReset());
+		assertEquals(Collections.singletonList("first"), update.getLines());
+
+		append("ond\r\nthird\n");
+		update = tail.poll();
+		assertEquals(Arrays.asList("second", "third"), update.getLines());
+
+		assertEquals(Collections.emptyList(), tail.poll().getLines());
+		assertEquals(Arrays.asList("first", "second", "third"), tail.getLines());
+	}
+
+	@Test
+	public void testOnlyTheLastLinesAreKept() throws IOException
+	{
+		final LogTail tail = new LogTail(file, 3);
+		append("1\n2\n3\n4\n5\n");
+		assertEquals(Arrays.asList("3", "4", "5"), tail.poll().getLines());
+
+		append("6\n");
+		assertEquals(Collections.singletonList("6"), tail.poll().getLines());
+		assertEquals(Arrays.asList("4", "5", "6"), tail.getLines());
+	}
+
+	@Test
+	public void testLinesSpanningReadBuffers() throws IOException
+	{
+		// Ten lines of 10000 bytes, one of which straddles the end of the first 64k read
+		final String line = repeat('a', 9999);
+		final LogTail tail = new LogTail(file, 10);
+		append(repeat(line + "\n", 10));
+		assertEquals(Collections.nCopies(10, line), tail.poll().getLines());
+	}
+
+	@Test
+	public void testLongLinesAreCutOff() throws IOException
+	{
+		final LogTail tail = new LogTail(file, 10);
+		append(repeat('a', 20 * 1024) + "\nnext\n");
+		final List<String> lines = tail.poll().getLines();
+		assertEquals(2, lines.size());
+		assertEquals(16 * 1024, lines.get(0).length());
+		assertEquals("next", lines.get(1));
+	}
+
+	@Test
+	public void testTruncationResetsTheTail() throws IOException
+	{
+		final LogTail tail = new LogTail(file, 10);
+		append("old line\nanother old line\n");
+		tail.poll();
+
+		Files.write(file, "new\n".getBytes(StandardCharsets.UTF_8));
+		final LogTail.Update update = tail.poll();
+		assertTrue(update.isReset());
+		assertEquals(Collections.singletonList("new"), update.getLines());
+		assertEquals(Collections.singletonList("new"), tail.getLines());
+	}
+
+	@Test
+	public void testLargeFilesStartAtACompleteLineNearTheEnd() throws IOException
+	{
+		// 1 MB of 100 byte lines, twice the most read at once
+		final StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 10 * 1024; i++)
+		{
+			final String number = String.valueOf(i);
+			content.append(number).append(repeat('.', 99 - number.length())).append('\n');
+		}
+		append(content.toString());
+
+		final LogTail tail = new LogTail(file, 100_000);
+		final List<String> lines = tail.poll().getLines();
+		assertTrue(lines.size() < 10 * 1024);
+		for (final String line : lines)
+		{
+			assertEquals(99, line.length());
+		}
+		assertTrue(lines.get(lines.size() - 1).startsWith("10239."));
+
+		// Every line after the skipped partial one is read
+		final int first = Integer.parseInt(lines.get(0).substring(0, lines.get(0).indexOf('.')));
+		assertEquals(10 * 1024 - first, lines.size());
+	}
+
+	private void append(final String text) throws IOException
+	{
+		Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+	}
+
+	private static String repeat(final char c, final int count)
+	{
+		final char[] chars = new char[count];
+		Arrays.fill(chars, c);
+		return new String(chars);
+	}
+
+	private static String repeat(final String s, final int count)
+	{
+		return String.join("", Collections.nCopies(count, s));
+	}
+}
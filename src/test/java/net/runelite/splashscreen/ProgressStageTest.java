@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ProgressStageTest
+{
+	private static final double DELTA = 1e-9;
+
+	@Test
+	public void testFractionIsWeightedAverageOfSubStages()
+	{
+		final ProgressStage root = ProgressStage.root();
+		final ProgressStage download = root.addStage("download", 3);
+		final ProgressStage unpack = root.addStage("unpack", 1);
+
+		download.setProgress(0.5);
+		assertEquals(0.375, root.getFraction(), DELTA);
+
+		unpack.setProgress(1);
+		assertEquals(0.625, root.getFraction(), DELTA);
+		assertTrue(root.hasStages());
+		assertFalse(download.hasStages());
+	}
+
+	@Test
+	public void testNestedStagesPropagateToTheRoot()
+	{
+		final ProgressStage root = ProgressStage.root();
+		final ProgressStage downloads = root.addStage("downloads", 1);
+		root.addStage("verify", 1);
+		final ProgressStage client = downloads.addStage("client.jar", 3);
+		final ProgressStage patch = downloads.addStage("patch", 1);
+
+		client.setProgress(300, 300);
+		assertEquals(0.75, downloads.getFraction(), DELTA);
+		assertEquals(0.375, root.getFraction(), DELTA);
+
+		patch.complete();
+		assertEquals(1, downloads.getFraction(), DELTA);
+		assertEquals(0.5, root.getFraction(), DELTA);
+	}
+
+	@Test
+	public void testAddingAStageLaterMovesTheParentBack()
+	{
+		final ProgressStage root = ProgressStage.root();
+		root.addStage("first", 1).complete();
+		assertEquals(1, root.getFraction(), DELTA);
+
+		root.addStage("second", 1);
+		assertEquals(0.5, root.getFraction(), DELTA);
+	}
+
+	@Test
+	public void testCompletingAStageCompletesItsSubStages()
+	{
+		final ProgressStage root = ProgressStage.root();
+		final ProgressStage downloads = root.addStage("downloads", 1);
+		root.addStage("verify", 1);
+		downloads.addStage("client.jar", 1).setProgress(0.25);
+
+		downloads.complete();
+		assertEquals(1, downloads.getFraction(), DELTA);
+		assertEquals(0.5, root.getFraction(), DELTA);
+
+		// Completing twice must not add the stage to its parent twice
+		downloads.complete();
+		assertEquals(0.5, root.getFraction(), DELTA);
+	}
+
+	@Test
+	public void testProgressIsClampedAndUnknownTotalsIgnored()
+	{
+		final ProgressStage stage = ProgressStage.root().addStage("stage", 1);
+		stage.setProgress(2);
+		assertEquals(1, stage.getFraction(), DELTA);
+		stage.setProgress(-1);
+		assertEquals(0, stage.getFraction(), DELTA);
+		stage.setProgress(Double.NaN);
+		assertEquals(0, stage.getFraction(), DELTA);
+
+		stage.setProgress(0.5);
+		stage.setProgress(10, 0);
+		assertEquals(0.5, stage.getFraction(), DELTA);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testProgressOfAStageWithSubStagesIsRejected()
+	{
+		final ProgressStage stage = ProgressStage.root().addStage("stage", 1);
+		stage.addStage("sub", 1);
+		stage.setProgress(0.5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonPositiveWeightIsRejected()
+	{
+		ProgressStage.root().addStage("stage", 0);
+	}
+
+	@Test
+	public void testListenerRunsOnlyWhenTheRootChanges()
+	{
+		final ProgressStage root = ProgressStage.root();
+		final AtomicInteger changes = new AtomicInteger();
+		root.setListener(changes::incrementAndGet);
+		final ProgressStage stage = root.addStage("stage", 1);
+
+		stage.setProgress(0.5);
+		stage.setProgress(0.5);
+		assertEquals(1, changes.get());
+	}
+
+	@Test
+	public void testConcurrentUpdatesAddUp() throws Exception
+	{
+		final int threads = 8;
+		final int steps = 1000;
+		final ProgressStage root = ProgressStage.root();
+		final ProgressStage[] stages = new ProgressStage[threads];
+		for (int i = 0; i < threads; i++)
+		{
+			stages[i] = root.addStage("stage-" + i, i + 1);
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final CountDownLatch start = new CountDownLatch(1);
+		try
+		{
+			for (final ProgressStage stage : stages)
+			{
+				executor.execute(() ->
+				{
+					try
+					{
+						start.await();
+					}
+					catch (InterruptedException e)
+					{
+						return;
+					}
+
+					for (int step = 1; step <= steps; step++)
+					{
+						stage.setProgress(step, steps);
+					}
+				});
+			}
+			start.countDown();
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(1, root.getFraction(), 1e-6);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class TransferRateEstimatorTest
+{
+	private static final long STEP = TimeUnit.MILLISECONDS.toNanos(250);
+	private static final long MEGABYTE = 1024 * 1024;
+
+	@Test
+	public void testRateOverTheWindow()
+	{
+		final TransferRateEstimator estimator = new TransferRateEstimator();
+		assertEquals(0, estimator.bytesPerSecond(), 0);
+
+		// 1 MB every 250ms
+		for (int i = 0; i < 5; i++)
+		{
+			estimator.sample(i * STEP, i * MEGABYTE);
+		}
+		assertEquals(4 * MEGABYTE, estimator.bytesPerSecond(), 1);
+	}
+
+	@Test
+	public void testSamplesWithinTheIntervalAreIgnored()
+	{
+		final TransferRateEstimator estimator = new TransferRateEstimator();
+		estimator.sample(0, 0);
+		estimator.sample(STEP / 2, 10 * MEGABYTE);
+		assertEquals(0, estimator.bytesPerSecond(), 0);
+
+		estimator.sample(STEP, MEGABYTE);
+		assertEquals(4 * MEGABYTE, estimator.bytesPerSecond(), 1);
+	}
+
+	@Test
+	public void testOldSamplesLeaveTheWindow()
+	{
+		final TransferRateEstimator estimator = new TransferRateEstimator();
+		long time = 0;
+		long bytes = 0;
+		// A fast start followed by a full window at a slower rate
+		for (int i = 0; i < 10; i++, time += STEP, bytes += 10 * MEGABYTE)
+		{
+			estimator.sample(time, bytes);
+		}
+		for (int i = 0; i < 40; i++, time += STEP, bytes += MEGABYTE)
+		{
+			estimator.sample(time, bytes);
+		}
+		assertEquals(4 * MEGABYTE, estimator.bytesPerSecond(), 1);
+	}
+
+	@Test
+	public void testSecondsRemaining()
+	{
+		final TransferRateEstimator estimator = new TransferRateEstimator();
+		for (int i = 0; i < 5; i++)
+		{
+			estimator.sample(i * STEP, i * MEGABYTE);
+		}
+
+		// 4 MB/s with 10 MB left
+		assertEquals(3, estimator.secondsRemaining(14 * MEGABYTE, 4 * MEGABYTE));
+		assertEquals(0, estimator.secondsRemaining(4 * MEGABYTE, 4 * MEGABYTE));
+	}
+
+	@Test
+	public void testSecondsRemainingIsUnknownWithoutATotalOrEnoughSamples()
+	{
+		final TransferRateEstimator estimator = new TransferRateEstimator();
+		estimator.sample(0, 0);
+		estimator.sample(STEP, MEGABYTE);
+		assertEquals(-1, estimator.secondsRemaining(10 * MEGABYTE, MEGABYTE));
+
+		for (int i = 2; i < 5; i++)
+		{
+			estimator.sample(i * STEP, i * MEGABYTE);
+		}
+		assertEquals(-1, estimator.secondsRemaining(0, 4 * MEGABYTE));
+		assertEquals(-1, estimator.secondsRemaining(2 * MEGABYTE, 4 * MEGABYTE));
+	}
+
+	@Test
+	public void testResetStartsANewWindow()
+	{
+		final TransferRateEstimator estimator = new TransferRateEstimator();
+		for (int i = 0; i < 5; i++)
+		{
+			estimator.sample(i * STEP, i * MEGABYTE);
+		}
+
+		estimator.reset();
+		assertEquals(0, estimator.bytesPerSecond(), 0);
+		assertEquals(-1, estimator.secondsRemaining(10 * MEGABYTE, 0));
+	}
+}
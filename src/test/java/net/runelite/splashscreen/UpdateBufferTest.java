@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2019, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.splashscreen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class UpdateBufferTest
+{
+	private final UpdateBuffer<List<String>> buffer = new UpdateBuffer<>();
+	private final List<String> target = Collections.synchronizedList(new ArrayList<>());
+
+	@Test
+	public void testBufferedUpdatesAreReplayedInOrder()
+	{
+		buffer.dispatch(t -> t.add("a"));
+		buffer.dispatch(t -> t.add("b"));
+		assertTrue(target.isEmpty());
+		assertNull(buffer.getTarget());
+
+		buffer.replay(target);
+		assertSame(target, buffer.getTarget());
+		buffer.dispatch(t -> t.add("c"));
+		assertEquals(Arrays.asList("a", "b", "c"), target);
+	}
+
+	@Test
+	public void testUpdatesMadeDuringReplayAreAppliedAfterTheBufferedOnes() throws Exception
+	{
+		final CountDownLatch blocking = new CountDownLatch(1);
+		final CountDownLatch dismissed = new CountDownLatch(1);
+		buffer.dispatch(t -> t.add("a"));
+		buffer.dispatch(t ->
+		{
+			// Like an error message, which blocks the replay until it is dismissed
+			t.add("dialog");
+			blocking.countDown();
+			await(dismissed);
+		});
+		buffer.dispatch(t -> t.add("b"));
+
+		final Thread replay = new Thread(() -> buffer.replay(target));
+		replay.start();
+		assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+		// The target is not published until the replay has finished, so this is buffered behind "b"
+		buffer.dispatch(t -> t.add("c"));
+		assertNull(buffer.getTarget());
+		dismissed.countDown();
+		replay.join(5000);
+
+		buffer.dispatch(t -> t.add("d"));
+		assertEquals(Arrays.asList("a", "dialog", "b", "c", "d"), target);
+	}
+
+	@Test
+	public void testCoalescedUpdatesAreBufferedOncePerRun()
+	{
+		buffer.dispatchCoalesced(t -> t.add("progress"));
+		buffer.dispatchCoalesced(t -> t.add("progress"));
+		buffer.dispatch(t -> t.add("message"));
+		buffer.dispatchCoalesced(t -> t.add("progress"));
+		buffer.dispatchCoalesced(t -> t.add("progress"));
+
+		buffer.replay(target);
+		assertEquals(Arrays.asList("progress", "message", "progress"), target);
+
+		// Forwarded every time once published
+		buffer.dispatchCoalesced(t -> t.add("progress"));
+		buffer.dispatchCoalesced(t -> t.add("progress"));
+		assertEquals(Arrays.asList("progress", "message", "progress", "progress", "progress"), target);
+	}
+
+	@Test
+	public void testAbandonDropsBufferedAndLaterUpdates()
+	{
+		buffer.dispatch(t -> t.add("a"));
+		buffer.abandon();
+		buffer.dispatch(t -> t.add("b"));
+		buffer.dispatchCoalesced(t -> t.add("progress"));
+
+		assertTrue(target.isEmpty());
+		assertNull(buffer.getTarget());
+	}
+
+	private static void await(final CountDownLatch latch)
+	{
+		try
+		{
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}